@@ -1,28 +1,51 @@
 package org.vaadin.addons.md_stepper;
 
+import com.vaadin.shared.Registration;
 import com.vaadin.ui.Button;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.CustomComponent;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
 import com.vaadin.ui.declarative.DesignAttributeHandler;
 import com.vaadin.ui.declarative.DesignContext;
 
 import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Element;
+import org.vaadin.addons.md_stepper.event.StepCancelListener;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener.StepperCompleteEvent;
 import org.vaadin.addons.md_stepper.event.StepperErrorListener;
 import org.vaadin.addons.md_stepper.event.StepperErrorListener.StepperErrorEvent;
+import org.vaadin.addons.md_stepper.event.StepperEventBus;
 import org.vaadin.addons.md_stepper.event.StepperFeedbackListener;
 import org.vaadin.addons.md_stepper.event.StepperFeedbackListener.StepperFeedbackEvent;
 import org.vaadin.addons.md_stepper.event.StepperNotifier;
 import org.vaadin.addons.md_stepper.iterator.ElementChangeListener;
+import org.vaadin.addons.md_stepper.util.DelayScheduler;
 
-import java.util.Collection;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for stepper implementations.
@@ -34,21 +57,44 @@ public abstract class AbstractStepper extends CustomComponent
     implements Stepper, StepperNotifier, ElementChangeListener<Step> {
 
   private static final String DESIGN_ATTRIBUTE_LINEAR = "linear";
+  /**
+   * Default time the activation of a step is deferred until its preparation has completed.
+   */
+  public static final Duration DEFAULT_PREPARATION_TIMEOUT = Duration.ofSeconds(5);
 
-  private final Collection<StepperCompleteListener> stepperCompleteListeners;
-  private final Collection<StepperErrorListener> stepperErrorListeners;
-  private final Collection<StepperFeedbackListener> stepperFeedbackListeners;
+  private static final int BACKGROUND_POOL_SIZE
+      = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+  private static final long BACKGROUND_KEEP_ALIVE_SECONDS = 60;
+  private static final Executor DEFAULT_BACKGROUND_EXECUTOR = createDefaultBackgroundExecutor();
+
+  private final StepperEventBus eventBus;
 
   private final StepIterator stepIterator;
   private final LabelProvider labelProvider;
+  private final StepContentCache contentCache;
   private final Map<Step, Throwable> errorMap;
 
   private final Button.ClickListener onBackClicked;
   private final Button.ClickListener onNextClicked;
   private final Button.ClickListener onSkipClicked;
   private final Button.ClickListener onCancelClicked;
+  private ButtonWiring buttonWiring;
+  private int attachedClickListeners;
 
   private String feedbackMessage;
+  private transient Executor backgroundExecutor;
+  private transient volatile CompletableFuture<Void> pendingTransition;
+  private String asyncFeedbackMessage;
+  private Duration asyncTimeout;
+  private Duration preparationTimeout;
+  private final List<Step> preparedSteps;
+  private transient Step preparingStep;
+  private transient CompletableFuture<Object> pendingPreparation;
+
+  private int batchDepth;
+  private boolean refreshPending;
+  private boolean activationPending;
+  private Step pendingPreviousStep;
 
   /**
    * Construct a new instance of the stepper.
@@ -62,9 +108,7 @@ public abstract class AbstractStepper extends CustomComponent
     Objects.requireNonNull(stepIterator, "Step iterator may not be null");
     Objects.requireNonNull(labelProvider, "Label provider may not be null");
 
-    this.stepperCompleteListeners = new HashSet<>();
-    this.stepperErrorListeners = new HashSet<>();
-    this.stepperFeedbackListeners = new HashSet<>();
+    this.eventBus = new StepperEventBus(this::getBackgroundExecutor);
     this.errorMap = new HashMap<>();
     this.labelProvider = labelProvider;
 
@@ -79,47 +123,306 @@ public abstract class AbstractStepper extends CustomComponent
 
     this.stepIterator = stepIterator;
     this.stepIterator.addElementChangeListener(this);
+    this.stepIterator.addElementRemoveListener(e -> {
+      if (buttonWiring != null && buttonWiring.step == e.getElement()) {
+        unwireButtons();
+      }
+    });
+
+    this.contentCache = new StepContentCache(this);
+    this.stepIterator.addBatchChangeListener(contentCache);
+
+    this.asyncFeedbackMessage = "";
+    this.asyncTimeout = null;
+    this.preparationTimeout = DEFAULT_PREPARATION_TIMEOUT;
+    this.preparedSteps = new ArrayList<>(2);
+  }
+
+  private static Executor createDefaultBackgroundExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (Executor) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      // Virtual threads are not available on this platform
+      return createBackgroundThreadPool();
+    }
+  }
+
+  private static Executor createBackgroundThreadPool() {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(
+        BACKGROUND_POOL_SIZE, BACKGROUND_POOL_SIZE,
+        BACKGROUND_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+                                     "md-stepper-background-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /**
+   * Get the cache that keeps track of the built contents of the steps.
+   *
+   * @return The content cache
+   */
+  public StepContentCache getContentCache() {
+    return contentCache;
+  }
+
+  /**
+   * Get the executor used to prepare the steps and to run the work of asynchronous transitions.
+   *
+   * @return The executor
+   *
+   * @see Step#setPreparer(org.vaadin.addons.md_stepper.util.SerializableFunction)
+   * @see #nextAsync(Supplier)
+   */
+  public Executor getBackgroundExecutor() {
+    return backgroundExecutor != null ? backgroundExecutor : DEFAULT_BACKGROUND_EXECUTOR;
+  }
+
+  /**
+   * Set the executor used to prepare the steps and to run the work of asynchronous transitions.
+   * <p>
+   * By default virtual threads are used if they are available. Otherwise a pool shared by all
+   * steppers is used, whose number of daemon threads is limited to twice the number of processors
+   * (at least four) and whose idle threads terminate after a minute. Blocking work therefore never
+   * runs on the common pool. The executor is not serialized with the stepper, the default is used
+   * after deserialization until it is set again.
+   *
+   * @param backgroundExecutor
+   *     The executor or <code>null</code> to use the default
+   */
+  public void setBackgroundExecutor(Executor backgroundExecutor) {
+    this.backgroundExecutor = backgroundExecutor;
+  }
+
+  /**
+   * Get the feedback message shown while the work of an asynchronous transition is running.
+   *
+   * @return The message
+   */
+  public String getAsyncFeedbackMessage() {
+    return asyncFeedbackMessage;
+  }
+
+  /**
+   * Set the feedback message shown while the work of an asynchronous transition is running.
+   *
+   * @param asyncFeedbackMessage
+   *     The message
+   */
+  public void setAsyncFeedbackMessage(String asyncFeedbackMessage) {
+    Objects.requireNonNull(asyncFeedbackMessage, "Message may not be null");
+    this.asyncFeedbackMessage = asyncFeedbackMessage;
+  }
+
+  /**
+   * Get the time after which the work of an asynchronous transition fails.
+   *
+   * @return The timeout or <code>null</code> if the work may run indefinitely
+   */
+  public Duration getAsyncTimeout() {
+    return asyncTimeout;
+  }
+
+  /**
+   * Set the time after which the work of an asynchronous transition fails with a
+   * {@link TimeoutException}.
+   * <p>
+   * The timeout is scheduled on a shared scheduler thread, so it does not occupy a thread of the
+   * background executor.
+   *
+   * @param asyncTimeout
+   *     The timeout or <code>null</code> if the work may run indefinitely
+   */
+  public void setAsyncTimeout(Duration asyncTimeout) {
+    this.asyncTimeout = asyncTimeout;
+  }
+
+  /**
+   * Get the time the activation of a step is deferred until its preparation has completed.
+   *
+   * @return The timeout or <code>null</code> if the stepper waits indefinitely
+   */
+  public Duration getPreparationTimeout() {
+    return preparationTimeout;
+  }
+
+  /**
+   * Set the time the activation of a step is deferred until its preparation has completed.
+   * <p>
+   * The stepper does not wait in the UI thread, the {@link
+   * org.vaadin.addons.md_stepper.event.StepActiveListener.StepActiveEvent} is fired through {@link
+   * UI#access(Runnable)} once the preparation has completed. If the preparation has not completed
+   * in time, it is cancelled and the event is fired without a prepared result. Only if the stepper
+   * is used without a UI, it waits for the preparation in the calling thread.
+   *
+   * @param preparationTimeout
+   *     The timeout or <code>null</code> to wait indefinitely
+   */
+  public void setPreparationTimeout(Duration preparationTimeout) {
+    this.preparationTimeout = preparationTimeout;
+  }
+
+  /**
+   * Check if an asynchronous transition is waiting for its work to complete.
+   *
+   * @return <code>true</code> if a transition is pending, <code>false</code> else
+   */
+  public boolean isTransitionPending() {
+    return pendingTransition != null;
+  }
+
+  /**
+   * Get the number of click listeners the stepper has attached to step buttons.
+   * <p>
+   * Only the buttons of the active step are wired, so this is either <code>0</code> or the number
+   * of buttons of the active step. It can be used to verify that listeners do not accumulate.
+   *
+   * @return The number of attached click listeners
+   */
+  public int getAttachedClickListenerCount() {
+    return attachedClickListeners;
+  }
+
+  /**
+   * Check if the pending asynchronous transition can be cancelled by cancelling the current step.
+   *
+   * @return <code>true</code> if a transition is pending and the current step is cancellable,
+   * <code>false</code> else
+   */
+  protected boolean isTransitionCancellable() {
+    return isTransitionPending() && getCurrent() != null && getCurrent().isCancellable();
+  }
+
+  /**
+   * Get the content of the given step for showing it.
+   *
+   * @param step
+   *     The step to get the content for
+   *
+   * @return The content of the step
+   */
+  protected Component getStepContent(Step step) {
+    return contentCache.getContent(step);
+  }
+
+  /**
+   * Get the event bus that delivers the stepper events and the events of all steps of the stepper.
+   *
+   * @return The event bus
+   */
+  public StepperEventBus getEventBus() {
+    return eventBus;
   }
 
   @Override
   public boolean addStepperCompleteListener(StepperCompleteListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperCompleteListeners.add(listener);
+    return eventBus.addListener(StepperCompleteEvent.class, listener, StepperCompleteListener::onStepperComplete);
   }
 
   @Override
   public boolean removeStepperCompleteListener(StepperCompleteListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperCompleteListeners.remove(listener);
+    return eventBus.removeListener(StepperCompleteEvent.class, listener);
   }
 
   @Override
   public boolean addStepperErrorListener(StepperErrorListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperErrorListeners.add(listener);
+    return eventBus.addListener(StepperErrorEvent.class, listener, StepperErrorListener::onStepperError);
   }
 
   @Override
   public boolean removeStepperErrorListener(StepperErrorListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperErrorListeners.remove(listener);
+    return eventBus.removeListener(StepperErrorEvent.class, listener);
   }
 
   @Override
   public boolean addStepperFeedbackListener(StepperFeedbackListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperFeedbackListeners.add(listener);
+    return eventBus.addListener(StepperFeedbackEvent.class, listener, StepperFeedbackListener::onStepperFeedback);
   }
 
   @Override
   public boolean removeStepperFeedbackListener(StepperFeedbackListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepperFeedbackListeners.remove(listener);
+    return eventBus.removeListener(StepperFeedbackEvent.class, listener);
   }
 
   @Override
   public void refresh() {
+    if (isBatching()) {
+      refreshPending = true;
+      return;
+    }
+
+    stepIterator.invalidateSnapshot();
     labelProvider.refresh();
+    refreshLayout();
+    setActive(getCurrent(), getCurrent(), false);
+  }
+
+  /**
+   * Rebuild the layout of the stepper for the current steps.
+   * <p>
+   * Called by {@link #refresh()} before the current step is set active again.
+   */
+  protected void refreshLayout() {
+    // Nothing to rebuild by default
+  }
+
+  @Override
+  public void batch(Runnable action) {
+    Objects.requireNonNull(action, "Action may not be null");
+
+    batchDepth++;
+    try {
+      action.run();
+    } finally {
+      batchDepth--;
+      if (batchDepth == 0) {
+        completeBatch();
+      }
+    }
+  }
+
+  /**
+   * Check if a batch is currently running.
+   *
+   * @return <code>true</code> if updates are deferred until the batch has been closed,
+   * <code>false</code> else
+   */
+  protected boolean isBatching() {
+    return batchDepth > 0;
+  }
+
+  private void completeBatch() {
+    Step current = getCurrent();
+    Step previousStep = activationPending ? pendingPreviousStep : current;
+    boolean refresh = refreshPending;
+    boolean activate = !Objects.equals(previousStep, current);
+
+    refreshPending = false;
+    activationPending = false;
+    pendingPreviousStep = null;
+
+    if (refresh) {
+      stepIterator.invalidateSnapshot();
+      labelProvider.refresh();
+      refreshLayout();
+    }
+
+    if (refresh || activate) {
+      setActive(current, previousStep, activate);
+    }
   }
 
   @Override
@@ -127,6 +430,11 @@ public abstract class AbstractStepper extends CustomComponent
     return stepIterator.getSteps();
   }
 
+  @Override
+  public int indexOf(Step step) {
+    return stepIterator.indexOf(step);
+  }
+
   @Override
   public Step getCurrent() {
     return stepIterator.getCurrent();
@@ -159,11 +467,43 @@ public abstract class AbstractStepper extends CustomComponent
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If the current step has validators, the stepper only moves forward after all of them have
+   * passed. Validators that complete later are awaited like the work of {@link
+   * #nextAsync(Supplier)}. All failures are shown as a single {@link StepValidationException}.
+   */
   @Override
   public void next() {
     Step current = getCurrent();
     Objects.requireNonNull(current, "No current step specified");
 
+    if (!current.hasValidators()) {
+      moveNext(current);
+      return;
+    }
+
+    CompletableFuture<Void> validation = current.validate(getBackgroundExecutor());
+    if (!validation.isDone()) {
+      runAsync(() -> validation, () -> moveNext(current));
+      return;
+    }
+
+    try {
+      validation.join();
+    } catch (CompletionException e) {
+      showError(current, e.getCause());
+      return;
+    }
+    moveNext(current);
+  }
+
+  private void moveNext(Step current) {
+    if (getError(current) instanceof StepValidationException) {
+      hideError(current);
+    }
+
     labelProvider.setCompleted(current, true);
     current.notifyComplete(this);
 
@@ -180,7 +520,7 @@ public abstract class AbstractStepper extends CustomComponent
     if (stepIterator.isLinear() && current.isResetOnResubmit()) {
       List<Step> steps = stepIterator.getSteps();
       steps.stream()
-           .skip(steps.indexOf(current) + 1)
+           .skip(stepIterator.indexOf(current) + 1)
            .filter(stepIterator::isStepComplete)
            .forEach(step -> {
              labelProvider.setCompleted(step, false);
@@ -189,6 +529,152 @@ public abstract class AbstractStepper extends CustomComponent
     }
   }
 
+  /**
+   * Run the given work in the background and move a step back once it has completed.
+   *
+   * @param work
+   *     The work to run
+   *
+   * @return The transition, that completes after the stepper has moved
+   *
+   * @see #nextAsync(Supplier)
+   */
+  public CompletableFuture<Void> backAsync(Supplier<? extends CompletionStage<?>> work) {
+    return runAsync(work, this::back);
+  }
+
+  /**
+   * Run the given work in the background and move a step forward once it has completed.
+   * <p>
+   * A feedback message is shown while the work is running. The stepper moves in the UI thread as
+   * soon as the work has completed successfully, otherwise the error is shown for the current
+   * step. The transition is cancelled by cancelling the returned future or by a cancel event of
+   * the current step. The returned future is also cancelled if the stepper has moved otherwise
+   * before the work completed, and fails with a {@link UIDetachedException} if the UI has been
+   * detached in the meantime.
+   *
+   * @param work
+   *     The work to run
+   *
+   * @return The transition, that completes after the stepper has moved
+   *
+   * @throws IllegalStateException
+   *     if another transition is pending or the stepper is not attached
+   */
+  public CompletableFuture<Void> nextAsync(Supplier<? extends CompletionStage<?>> work) {
+    return runAsync(work, this::next);
+  }
+
+  /**
+   * Run the given work in the background and skip the current step once it has completed.
+   *
+   * @param work
+   *     The work to run
+   *
+   * @return The transition, that completes after the stepper has moved
+   *
+   * @see #nextAsync(Supplier)
+   */
+  public CompletableFuture<Void> skipAsync(Supplier<? extends CompletionStage<?>> work) {
+    return runAsync(work, this::skip);
+  }
+
+  private CompletableFuture<Void> runAsync(Supplier<? extends CompletionStage<?>> work,
+                                           Runnable transition) {
+    Objects.requireNonNull(work, "Work may not be null");
+
+    Step step = getCurrent();
+    Objects.requireNonNull(step, "No current step specified");
+    if (isTransitionPending()) {
+      throw new IllegalStateException("Another transition is pending");
+    }
+
+    UI ui = getAccessUI();
+    Executor executor = getBackgroundExecutor();
+    CompletableFuture<Object> workFuture = CompletableFuture
+        .supplyAsync(work, executor)
+        .thenCompose(stage -> stage != null
+                              ? stage.thenApply(result -> (Object) result)
+                              : CompletableFuture.completedFuture(null));
+    watchTimeout(workFuture);
+
+    CompletableFuture<Void> transitionFuture = new CompletableFuture<>();
+    StepCancelListener cancelListener = event -> transitionFuture.cancel(false);
+    transitionFuture.whenComplete((result, error) -> workFuture.cancel(true));
+
+    pendingTransition = transitionFuture;
+    step.addStepCancelListener(cancelListener);
+    showFeedbackMessage(asyncFeedbackMessage);
+
+    workFuture.whenComplete((result, error) -> {
+      try {
+        ui.access(() -> {
+          pendingTransition = null;
+          step.removeStepCancelListener(cancelListener);
+          hideFeedbackMessage();
+          finishTransition(step, transition, transitionFuture, error);
+        });
+      } catch (UIDetachedException e) {
+        // The UI is gone, the transition can never take place
+        if (pendingTransition == transitionFuture) {
+          pendingTransition = null;
+        }
+        step.removeStepCancelListener(cancelListener);
+        transitionFuture.completeExceptionally(e);
+      }
+    });
+
+    return transitionFuture;
+  }
+
+  private void finishTransition(Step step, Runnable transition,
+                                CompletableFuture<Void> transitionFuture, Throwable error) {
+    if (transitionFuture.isCancelled()) {
+      return;
+    }
+
+    if (error != null) {
+      Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+      showError(step, cause);
+      transitionFuture.completeExceptionally(cause);
+      return;
+    }
+
+    if (getCurrent() != step) {
+      // The stepper has moved in the meantime, moving again would skip a step
+      transitionFuture.cancel(false);
+      return;
+    }
+
+    try {
+      transition.run();
+      transitionFuture.complete(null);
+    } catch (RuntimeException e) {
+      transitionFuture.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private UI getAccessUI() {
+    UI ui = getUI() != null ? getUI() : UI.getCurrent();
+    if (ui == null) {
+      throw new IllegalStateException("Stepper is not attached to a UI");
+    }
+    return ui;
+  }
+
+  private void watchTimeout(CompletableFuture<?> future) {
+    Duration timeout = asyncTimeout;
+    if (timeout == null) {
+      return;
+    }
+
+    ScheduledFuture<?> timer = DelayScheduler.schedule(
+        () -> future.completeExceptionally(new TimeoutException()),
+        timeout.toMillis(), TimeUnit.MILLISECONDS);
+    future.whenComplete((result, error) -> timer.cancel(false));
+  }
+
   @Override
   public void skip() {
     Step current = getCurrent();
@@ -251,14 +737,75 @@ public abstract class AbstractStepper extends CustomComponent
     notifyStepperFeedback(message);
   }
 
+  /**
+   * Show the given feedback message and get a handle to update it and to show the progress of the
+   * operation.
+   * <p>
+   * The handle can be used from any thread, its updates are applied in the UI thread.
+   *
+   * @param message
+   *     The message to show
+   *
+   * @return The handle for the feedback
+   *
+   * @throws IllegalStateException
+   *     if the stepper is not attached
+   */
+  public FeedbackHandle showFeedback(String message) {
+    Objects.requireNonNull(message, "Message may not be null");
+
+    UI ui = getAccessUI();
+    showFeedbackMessage(message);
+    return new FeedbackHandle(this, ui, message);
+  }
+
+  /**
+   * Update the shown feedback message and progress, if the feedback is still shown.
+   *
+   * @param message
+   *     The message to show
+   * @param fraction
+   *     The progress between <code>0</code> and <code>1</code> or a negative value if the
+   *     progress is unknown
+   */
+  void updateFeedback(String message, double fraction) {
+    if (feedbackMessage == null) {
+      return;
+    }
+
+    boolean messageChanged = !message.equals(feedbackMessage);
+    feedbackMessage = message;
+    if (messageChanged) {
+      notifyStepperFeedback(message);
+    }
+    showFeedbackProgress(message, fraction);
+  }
+
+  /**
+   * Show the given message and progress by updating the components of the currently shown
+   * feedback.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param message
+   *     The message to show
+   * @param fraction
+   *     The progress between <code>0</code> and <code>1</code> or a negative value if the
+   *     progress is unknown
+   */
+  protected void showFeedbackProgress(String message, double fraction) {
+    // Nothing to update by default
+  }
+
   @Override
   public void hideFeedbackMessage() {
     showFeedbackMessage(null);
   }
 
   private void notifyStepperFeedback(String message) {
-    StepperFeedbackEvent feedbackEvent = new StepperFeedbackEvent(this, message);
-    stepperFeedbackListeners.forEach(l -> l.onStepperFeedback(feedbackEvent));
+    if (eventBus.hasSubscribers(StepperFeedbackEvent.class)) {
+      eventBus.publish(new StepperFeedbackEvent(this, message));
+    }
   }
 
   @Override
@@ -267,13 +814,15 @@ public abstract class AbstractStepper extends CustomComponent
   }
 
   private void notifyStepperError(Step step, Throwable throwable) {
-    StepperErrorEvent errorEvent = new StepperErrorEvent(this, step, throwable);
-    stepperErrorListeners.forEach(l -> l.onStepperError(errorEvent));
+    if (eventBus.hasSubscribers(StepperErrorEvent.class)) {
+      eventBus.publish(new StepperErrorEvent(this, step, throwable));
+    }
   }
 
   private void notifyStepperComplete() {
-    StepperCompleteEvent stepperCompleteEvent = new StepperCompleteEvent(this);
-    stepperCompleteListeners.forEach(l -> l.onStepperComplete(stepperCompleteEvent));
+    if (eventBus.hasSubscribers(StepperCompleteEvent.class)) {
+      eventBus.publish(new StepperCompleteEvent(this));
+    }
   }
 
   /**
@@ -296,7 +845,12 @@ public abstract class AbstractStepper extends CustomComponent
 
   @Override
   public void onElementChange(IterationEvent<Step> event) {
-    setActive(event.getCurrent(), event.getPrevious());
+    if (!isBatching()) {
+      setActive(event.getCurrent(), event.getPrevious());
+    } else if (!activationPending) {
+      activationPending = true;
+      pendingPreviousStep = event.getPrevious();
+    }
   }
 
   /**
@@ -318,23 +872,142 @@ public abstract class AbstractStepper extends CustomComponent
    *     <code>true</code> if an event should be fired, <code>false</code> else
    */
   protected void setActive(Step step, Step previousStep, boolean fireEvent) {
+    if (preparingStep != null && preparingStep != step) {
+      cancelPendingPreparation();
+    }
+
     if (step != null) {
-      step.getBackButton().addClickListener(onBackClicked);
-      step.getNextButton().addClickListener(onNextClicked);
-      step.getSkipButton().addClickListener(onSkipClicked);
-      step.getCancelButton().addClickListener(onCancelClicked);
+      wireButtons(step);
       labelProvider.setActive(step);
 
       if (fireEvent) {
-        step.notifyActive(this, previousStep);
+        activate(step, previousStep);
+      }
+
+      NavigationSnapshot snapshot = stepIterator.getSnapshot();
+      discardPreparations(step, snapshot.getNext(), snapshot.getSkipTarget());
+      prepare(snapshot.getNext());
+      prepare(snapshot.getSkipTarget());
+    } else {
+      unwireButtons();
+      discardPreparations(null, null, null);
+    }
+  }
+
+  private void wireButtons(Step step) {
+    if (buttonWiring != null) {
+      if (buttonWiring.isWired(step)) {
+        return;
+      }
+      unwireButtons();
+    }
+
+    buttonWiring = new ButtonWiring(step);
+    attachedClickListeners += buttonWiring.registrations.size();
+  }
+
+  private void unwireButtons() {
+    if (buttonWiring != null) {
+      buttonWiring.registrations.forEach(Registration::remove);
+      attachedClickListeners -= buttonWiring.registrations.size();
+      buttonWiring = null;
+    }
+  }
+
+  private void prepare(Step step) {
+    if (step != null && step.getPreparer() != null) {
+      step.prepare(getBackgroundExecutor());
+      if (!preparedSteps.contains(step)) {
+        preparedSteps.add(step);
       }
     }
   }
 
+  private void discardPreparations(Step current, Step next, Step skipTarget) {
+    // Preparations of steps that can no longer be reached directly would be stale once used
+    preparedSteps.removeIf(step -> {
+      if (step == current || step == next || step == skipTarget) {
+        return false;
+      }
+      step.discardPreparation();
+      return true;
+    });
+  }
+
+  private void activate(Step step, Step previousStep) {
+    preparedSteps.remove(step);
+    CompletableFuture<Object> preparation = step.takePreparation(getBackgroundExecutor());
+    if (preparation == null) {
+      step.notifyActive(this, previousStep);
+      return;
+    }
+
+    UI ui = getUI() != null ? getUI() : UI.getCurrent();
+    if (preparation.isDone() || ui == null) {
+      // Without a UI there is no session lock that could be held while waiting
+      step.notifyActive(this, previousStep, getPreparedResult(step, preparation));
+      return;
+    }
+
+    preparingStep = step;
+    pendingPreparation = preparation;
+    Duration timeout = preparationTimeout;
+    if (timeout != null) {
+      ScheduledFuture<?> timer = DelayScheduler.schedule(() -> preparation.cancel(true),
+                                                         timeout.toMillis(),
+                                                         TimeUnit.MILLISECONDS);
+      preparation.whenComplete((result, error) -> timer.cancel(false));
+    }
+
+    preparation.whenComplete((result, error) -> {
+      try {
+        ui.access(() -> {
+          if (pendingPreparation != preparation) {
+            // The stepper has moved on in the meantime
+            return;
+          }
+          preparingStep = null;
+          pendingPreparation = null;
+          step.notifyActive(this, previousStep, getPreparedResult(step, preparation));
+        });
+      } catch (UIDetachedException e) {
+        // The UI is gone, the step will never be shown
+      }
+    });
+  }
+
+  private void cancelPendingPreparation() {
+    CompletableFuture<Object> preparation = pendingPreparation;
+    preparingStep = null;
+    pendingPreparation = null;
+    if (preparation != null) {
+      preparation.cancel(true);
+    }
+  }
+
+  private Object getPreparedResult(Step step, CompletableFuture<Object> preparation) {
+    Duration timeout = preparationTimeout;
+    try {
+      return timeout != null
+             ? preparation.get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+             : preparation.get();
+    } catch (ExecutionException e) {
+      showError(step, e.getCause());
+    } catch (TimeoutException e) {
+      preparation.cancel(true);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (CancellationException e) {
+      // The preparation has been cancelled, there is no result
+    }
+    return null;
+  }
+
   @Override
   public void readDesign(Element design, DesignContext designContext) {
     super.readDesign(design, designContext);
 
+    List<Step> steps = new ArrayList<>();
     for (Element child : design.children()) {
       Component childComponent = designContext.readDesign(child);
       if (!(childComponent instanceof Step)) {
@@ -342,8 +1015,9 @@ public abstract class AbstractStepper extends CustomComponent
                                            " are allowed as children of " + getClass().getName());
       }
 
-      stepIterator.add(((Step) childComponent));
+      steps.add((Step) childComponent);
     }
+    stepIterator.addAll(steps);
 
     boolean linear = false;
 
@@ -368,6 +1042,39 @@ public abstract class AbstractStepper extends CustomComponent
     }
   }
 
+  /**
+   * The click listeners of the stepper that are attached to the buttons of a step.
+   */
+  private final class ButtonWiring implements Serializable {
+
+    private final Step step;
+    private final Button backButton;
+    private final Button nextButton;
+    private final Button skipButton;
+    private final Button cancelButton;
+    private final List<Registration> registrations;
+
+    private ButtonWiring(Step step) {
+      this.step = step;
+      this.backButton = step.getBackButton();
+      this.nextButton = step.getNextButton();
+      this.skipButton = step.getSkipButton();
+      this.cancelButton = step.getCancelButton();
+      this.registrations = Arrays.asList(backButton.addClickListener(onBackClicked),
+                                         nextButton.addClickListener(onNextClicked),
+                                         skipButton.addClickListener(onSkipClicked),
+                                         cancelButton.addClickListener(onCancelClicked));
+    }
+
+    private boolean isWired(Step step) {
+      return this.step == step &&
+             backButton == step.getBackButton() &&
+             nextButton == step.getNextButton() &&
+             skipButton == step.getSkipButton() &&
+             cancelButton == step.getCancelButton();
+    }
+  }
+
   /**
    * Styles for the stepper.
    */
@@ -0,0 +1,84 @@
+package org.vaadin.addons.md_stepper;
+
+import java.io.Serializable;
+
+/**
+ * Policy that decides which built step contents are kept by a {@link StepContentCache}.
+ * <p>
+ * The content of the current step is always kept, regardless of the policy.
+ */
+@FunctionalInterface
+public interface ContentCachePolicy extends Serializable {
+
+  /**
+   * Check if the content of the given step should be kept.
+   *
+   * @param step
+   *     The step whose content has been built
+   * @param recency
+   *     The number of other steps that have been activated since the step has been activated the
+   *     last time, <code>0</code> for the most recently activated step
+   * @param stepper
+   *     The stepper the step belongs to
+   *
+   * @return <code>true</code> if the content should be kept, <code>false</code> if it should be
+   * released
+   */
+  boolean isRetained(Step step, int recency, Stepper stepper);
+
+  /**
+   * Keep the content of all steps.
+   *
+   * @return The policy
+   */
+  static ContentCachePolicy keepAll() {
+    return (step, recency, stepper) -> true;
+  }
+
+  /**
+   * Keep the content of the given number of most recently activated steps.
+   *
+   * @param count
+   *     The number of steps to keep the content for
+   *
+   * @return The policy
+   */
+  static ContentCachePolicy keepLastActivated(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("Count must be at least 1");
+    }
+    return (step, recency, stepper) -> recency < count;
+  }
+
+  /**
+   * Keep the content of the steps whose position differs at most by the given distance from the
+   * position of the current step.
+   * <p>
+   * The positions are looked up with {@link Stepper#indexOf(Step)}, which takes constant time for
+   * the steppers of this add-on.
+   *
+   * @param distance
+   *     The maximum distance to the current step
+   *
+   * @return The policy
+   */
+  static ContentCachePolicy keepNearest(int distance) {
+    if (distance < 0) {
+      throw new IllegalArgumentException("Distance may not be negative");
+    }
+    return (step, recency, stepper) -> {
+      int currentIndex = stepper.indexOf(stepper.getCurrent());
+      return currentIndex < 0 || Math.abs(stepper.indexOf(step) - currentIndex) <= distance;
+    };
+  }
+
+  /**
+   * Release the content of steps that are complete and can not be edited anymore, as they will
+   * not be shown again.
+   *
+   * @return The policy
+   */
+  static ContentCachePolicy releaseCompleted() {
+    return (step, recency, stepper) -> !stepper.isStepComplete(step) || step.isEditable();
+  }
+}
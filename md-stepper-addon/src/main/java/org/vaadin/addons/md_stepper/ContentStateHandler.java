@@ -0,0 +1,36 @@
+package org.vaadin.addons.md_stepper;
+
+import com.vaadin.ui.Component;
+
+import java.io.Serializable;
+
+/**
+ * Saves the state of step content that is released by a {@link StepContentCache} and restores it
+ * as soon as the content has been built again.
+ */
+public interface ContentStateHandler extends Serializable {
+
+  /**
+   * Save the state of the given content before it is released.
+   *
+   * @param step
+   *     The step the content belongs to
+   * @param content
+   *     The content to save the state for
+   *
+   * @return The state or <code>null</code> if there is nothing to restore
+   */
+  Serializable saveState(Step step, Component content);
+
+  /**
+   * Restore the state of the given, newly built content.
+   *
+   * @param step
+   *     The step the content belongs to
+   * @param content
+   *     The content to restore the state for
+   * @param state
+   *     The state that has been saved when the previous content has been released
+   */
+  void restoreState(Step step, Component content, Serializable state);
+}
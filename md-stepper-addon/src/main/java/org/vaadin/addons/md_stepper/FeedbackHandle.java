@@ -0,0 +1,189 @@
+package org.vaadin.addons.md_stepper;
+
+import com.vaadin.shared.communication.PushMode;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+
+import org.vaadin.addons.md_stepper.util.DelayScheduler;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle to update the feedback message and progress shown by a stepper from any thread.
+ * <p>
+ * Updates are coalesced, so the stepper is updated at most once per update interval with the
+ * latest message and progress. The updates are applied in the UI thread and pushed to the client
+ * if push is enabled.
+ *
+ * @see AbstractStepper#showFeedback(String)
+ */
+public class FeedbackHandle implements Serializable {
+
+  /**
+   * Progress value for an unknown progress.
+   */
+  public static final double INDETERMINATE = -1;
+
+  /**
+   * Default minimum time between two updates of the stepper.
+   */
+  public static final Duration DEFAULT_UPDATE_INTERVAL = Duration.ofMillis(200);
+
+  private final AbstractStepper stepper;
+  private final UI ui;
+
+  private String message;
+  private double fraction;
+  private Duration updateInterval;
+  private long lastUpdate;
+  private boolean updateScheduled;
+  private boolean closed;
+
+  /**
+   * Create a new handle for the feedback currently shown by the given stepper.
+   *
+   * @param stepper
+   *     The stepper showing the feedback
+   * @param ui
+   *     The UI the stepper is attached to
+   * @param message
+   *     The message currently shown
+   */
+  FeedbackHandle(AbstractStepper stepper, UI ui, String message) {
+    this.stepper = stepper;
+    this.ui = ui;
+    this.message = message;
+    this.fraction = INDETERMINATE;
+    this.updateInterval = DEFAULT_UPDATE_INTERVAL;
+    this.lastUpdate = 0;
+  }
+
+  /**
+   * Get the minimum time between two updates of the stepper.
+   *
+   * @return The update interval
+   */
+  public synchronized Duration getUpdateInterval() {
+    return updateInterval;
+  }
+
+  /**
+   * Set the minimum time between two updates of the stepper.
+   *
+   * @param updateInterval
+   *     The update interval
+   */
+  public synchronized void setUpdateInterval(Duration updateInterval) {
+    Objects.requireNonNull(updateInterval, "Update interval may not be null");
+    this.updateInterval = updateInterval;
+  }
+
+  /**
+   * Update the message without a known progress.
+   *
+   * @param message
+   *     The message to show
+   */
+  public void update(String message) {
+    update(message, INDETERMINATE);
+  }
+
+  /**
+   * Update the message and the progress.
+   * <p>
+   * This method may be called from any thread.
+   *
+   * @param message
+   *     The message to show
+   * @param fraction
+   *     The progress between <code>0</code> and <code>1</code> or {@link #INDETERMINATE}
+   */
+  public void update(String message, double fraction) {
+    Objects.requireNonNull(message, "Message may not be null");
+
+    long delay;
+    synchronized (this) {
+      this.message = message;
+      this.fraction = fraction;
+      if (closed || updateScheduled) {
+        return;
+      }
+
+      updateScheduled = true;
+      delay = lastUpdate + updateInterval.toMillis() - System.currentTimeMillis();
+    }
+
+    if (delay <= 0) {
+      scheduleApply();
+    } else {
+      DelayScheduler.schedule(this::scheduleApply, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void scheduleApply() {
+    try {
+      ui.access(this::apply);
+    } catch (UIDetachedException e) {
+      // Let later updates try again instead of dropping them
+      synchronized (this) {
+        updateScheduled = false;
+      }
+      throw e;
+    }
+  }
+
+  private void apply() {
+    String currentMessage;
+    double currentFraction;
+    synchronized (this) {
+      updateScheduled = false;
+      if (closed) {
+        return;
+      }
+
+      lastUpdate = System.currentTimeMillis();
+      currentMessage = message;
+      currentFraction = fraction;
+    }
+
+    stepper.updateFeedback(currentMessage, currentFraction);
+    push();
+  }
+
+  /**
+   * Hide the feedback.
+   * <p>
+   * This method may be called from any thread, later updates are ignored.
+   */
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+
+    ui.access(() -> {
+      stepper.hideFeedbackMessage();
+      push();
+    });
+  }
+
+  /**
+   * Check if the feedback has been closed.
+   *
+   * @return <code>true</code> if the feedback has been closed, <code>false</code> else
+   */
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  private void push() {
+    if (ui.getPushConfiguration().getPushMode() == PushMode.MANUAL) {
+      ui.push();
+    }
+  }
+}
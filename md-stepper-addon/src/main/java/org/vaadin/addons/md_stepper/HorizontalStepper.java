@@ -1,5 +1,6 @@
 package org.vaadin.addons.md_stepper;
 
+import com.vaadin.icons.VaadinIcons;
 import com.vaadin.ui.Alignment;
 import com.vaadin.ui.Button;
 import com.vaadin.ui.Component;
@@ -10,37 +11,55 @@ import com.vaadin.ui.Panel;
 import com.vaadin.ui.VerticalLayout;
 import com.vaadin.ui.themes.ValoTheme;
 
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener;
 import org.vaadin.addons.md_stepper.collection.ElementRemoveListener;
-import org.vaadin.addons.md_stepper.component.CenteredLayout;
+import org.vaadin.addons.md_stepper.component.FeedbackIndicator;
 import org.vaadin.addons.md_stepper.component.Spacer;
-import org.vaadin.addons.md_stepper.component.Spinner;
+import org.vaadin.addons.md_stepper.component.StepBar;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener;
+import org.vaadin.addons.md_stepper.event.StepperErrorListener;
 import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Stepper implementation that show th steps in a horizontal style.
  */
 public class HorizontalStepper extends AbstractStepper
-    implements ElementAddListener<Step>, ElementRemoveListener<Step>, StepperCompleteListener {
+    implements ElementAddListener<Step>, ElementRemoveListener<Step>, BatchChangeListener<Step>,
+               StepperCompleteListener, StepperErrorListener {
 
   public static final float DEFAULT_EXPAND_RATIO_DIVIDER = 0.75F;
 
   private static final String STYLE_ROOT_LAYOUT = "stepper-horizontal";
   private static final String STYLE_LABEL_BAR = "label-bar";
   private static final String STYLE_DIVIDER = "label-divider";
+  private static final String STYLE_SCROLL_BUTTON = "label-scroll-button";
   private static final String STYLE_FEEDBACK_MESSAGE = "feedback-message";
   private static final String STYLE_CONTENT_CONTAINER = "content-container";
   private static final String STYLE_BUTTON_BAR = "button-bar";
 
+  private final VerticalLayout rootLayout;
   private final HorizontalLayout labelBar;
+  private final StepBar stepBar;
+  private final HorizontalLayout feedbackBar;
+  private final Label feedbackLabel;
+  private final FeedbackIndicator feedbackIndicator;
   private final HorizontalLayout buttonBar;
   private final Panel stepContent;
+  private final List<Divider> spareDividers;
+  private final LabelWindow labelWindow;
+  private final Button scrollBackButton;
+  private final Button scrollForwardButton;
 
   private float dividerExpandRatio;
+  private boolean stepBarEnabled;
 
   /**
    * Create a new horizontal stepper.
@@ -99,8 +118,8 @@ public class HorizontalStepper extends AbstractStepper
     super(stepIterator, labelProvider);
 
     addStepperCompleteListener(this);
-    getStepIterator().addElementAddListener(this);
-    getStepIterator().addElementRemoveListener(this);
+    addStepperErrorListener(this);
+    getStepIterator().addBatchChangeListener(this);
 
     this.labelBar = new HorizontalLayout();
     this.labelBar.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
@@ -109,6 +128,35 @@ public class HorizontalStepper extends AbstractStepper
     this.labelBar.setMargin(false);
     this.labelBar.setSpacing(false);
 
+    this.stepBar = new StepBar(() -> getSteps().stream()
+                                               .map(getLabelProvider()::getStepBarItem)
+                                               .collect(Collectors.toList()));
+    this.stepBar.setWidth(100, Unit.PERCENTAGE);
+    this.stepBar.addStyleName(STYLE_LABEL_BAR);
+    this.stepBar.addItemClickListener(event -> {
+      Step step = getSteps().get(event.getIndex());
+      if (getLabelProvider().isClickable(step)) {
+        getStepIterator().moveTo(step);
+      }
+    });
+
+    this.feedbackLabel = new Label();
+    this.feedbackLabel.addStyleName(STYLE_FEEDBACK_MESSAGE);
+
+    this.feedbackIndicator = new FeedbackIndicator();
+
+    this.feedbackBar = new HorizontalLayout(feedbackLabel);
+    this.feedbackBar.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
+    this.feedbackBar.setWidth(100, Unit.PERCENTAGE);
+    this.feedbackBar.addStyleName(STYLE_LABEL_BAR);
+    this.feedbackBar.setMargin(false);
+    this.feedbackBar.setSpacing(false);
+
+    this.spareDividers = new ArrayList<>();
+    this.labelWindow = new LabelWindow();
+    this.scrollBackButton = createScrollButton(VaadinIcons.ANGLE_LEFT, -1);
+    this.scrollForwardButton = createScrollButton(VaadinIcons.ANGLE_RIGHT, 1);
+
     this.buttonBar = new HorizontalLayout();
     this.buttonBar.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
     this.buttonBar.addStyleName(STYLE_BUTTON_BAR);
@@ -123,15 +171,15 @@ public class HorizontalStepper extends AbstractStepper
 
     this.dividerExpandRatio = DEFAULT_EXPAND_RATIO_DIVIDER;
 
-    VerticalLayout rootLayout = new VerticalLayout();
-    rootLayout.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
-    rootLayout.setSizeFull();
-    rootLayout.setMargin(false);
-    rootLayout.setSpacing(true);
-    rootLayout.addComponent(labelBar);
-    rootLayout.addComponent(stepContent);
-    rootLayout.addComponent(buttonBar);
-    rootLayout.setExpandRatio(stepContent, 1);
+    this.rootLayout = new VerticalLayout();
+    this.rootLayout.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
+    this.rootLayout.setSizeFull();
+    this.rootLayout.setMargin(false);
+    this.rootLayout.setSpacing(true);
+    this.rootLayout.addComponent(labelBar);
+    this.rootLayout.addComponent(stepContent);
+    this.rootLayout.addComponent(buttonBar);
+    this.rootLayout.setExpandRatio(stepContent, 1);
 
     setCompositionRoot(rootLayout);
     addStyleName(STYLE_ROOT_LAYOUT);
@@ -139,35 +187,205 @@ public class HorizontalStepper extends AbstractStepper
     refreshLabelBar();
   }
 
+  private Button createScrollButton(VaadinIcons icon, int direction) {
+    Button button = new Button(icon);
+    button.addStyleName(ValoTheme.BUTTON_BORDERLESS);
+    button.addStyleName(ValoTheme.BUTTON_ICON_ONLY);
+    button.addStyleName(STYLE_SCROLL_BUTTON);
+    button.addClickListener(event -> {
+      if (labelWindow.scroll(direction, getSteps().size())) {
+        refreshLabelBar();
+      }
+    });
+    return button;
+  }
+
+  /**
+   * Reconcile the label bar with the current steps.
+   * <p>
+   * Labels that are already shown are kept in place, only labels of added or removed steps are
+   * inserted or removed. Dividers are interchangeable, so a divider is only added or removed if
+   * the number of labels changes. If a label window is set, only the labels inside the window are
+   * shown and the labels outside of the window and its buffer are released.
+   */
   private void refreshLabelBar() {
-    labelBar.removeAllComponents();
+    if (feedbackBar.getParent() != null) {
+      rootLayout.replaceComponent(feedbackBar, getActiveLabelBar());
+    }
+
+    if (stepBarEnabled) {
+      stepBar.refresh();
+      return;
+    }
 
     List<Step> steps = getSteps();
-    for (int i = 0; i < steps.size(); i++) {
-      addStepLabel(steps.get(i));
-      if (i < steps.size() - 1) {
-        addStepLabelDivider();
+    int start = labelWindow.getStart();
+    int end = labelWindow.getEnd(steps.size());
+
+    List<Component> components = new ArrayList<>();
+    if (start > 0) {
+      components.add(scrollBackButton);
+    }
+    steps.subList(start, end)
+         .forEach(step -> components.add(getLabelProvider().getStepLabel(step)));
+    if (end < steps.size()) {
+      components.add(scrollForwardButton);
+    }
+    removeStaleLabels(components);
+
+    int index = 0;
+    for (int i = 0; i < components.size(); i++) {
+      Component component = components.get(i);
+      if (i > 0 && component instanceof StepLabel && components.get(i - 1) instanceof StepLabel) {
+        if (!(getLabelBarComponent(index) instanceof Divider)) {
+          addStepLabelDivider(index);
+        }
+        index++;
+      }
+
+      while (getLabelBarComponent(index) instanceof Divider) {
+        removeStepLabelDivider((Divider) labelBar.getComponent(index));
+      }
+      if (getLabelBarComponent(index) != component) {
+        addLabelBarComponent(component, index);
+      }
+      index++;
+    }
+
+    while (labelBar.getComponentCount() > index) {
+      Component component = labelBar.getComponent(index);
+      if (component instanceof Divider) {
+        removeStepLabelDivider((Divider) component);
+      } else {
+        labelBar.removeComponent(component);
       }
     }
 
-    labelBar.iterator().forEachRemaining(c -> c.setWidth(100, Unit.PERCENTAGE));
+    if (labelWindow.isEnabled()) {
+      int from = labelWindow.getRetainedStart();
+      int to = labelWindow.getRetainedEnd(steps.size());
+      getLabelProvider().retainStepLabels(steps.subList(from, to));
+    }
   }
 
-  private void addStepLabel(Step step) {
-    Component stepLabel = getLabelProvider().getStepLabel(step);
+  private void removeStaleLabels(List<Component> components) {
+    Set<Component> current = Collections.newSetFromMap(new IdentityHashMap<>());
+    current.addAll(components);
 
-    labelBar.addComponent(stepLabel);
-    labelBar.setExpandRatio(stepLabel, 1);
+    for (int i = labelBar.getComponentCount() - 1; i >= 0; i--) {
+      Component component = labelBar.getComponent(i);
+      if (!(component instanceof Divider) && !current.contains(component)) {
+        labelBar.removeComponent(component);
+      }
+    }
   }
 
-  private void addStepLabelDivider() {
-    CssLayout divider = new CssLayout();
-    divider.addStyleName(STYLE_DIVIDER);
+  private Component getActiveLabelBar() {
+    return stepBarEnabled ? stepBar : labelBar;
+  }
 
-    labelBar.addComponent(divider);
+  private Component getLabelBarComponent(int index) {
+    return index < labelBar.getComponentCount() ? labelBar.getComponent(index) : null;
+  }
+
+  private void addLabelBarComponent(Component component, int index) {
+    labelBar.addComponent(component, index);
+    if (component instanceof StepLabel) {
+      component.setWidth(100, Unit.PERCENTAGE);
+      labelBar.setExpandRatio(component, 1);
+    }
+  }
+
+  private void addStepLabelDivider(int index) {
+    Divider divider = spareDividers.isEmpty()
+                      ? new Divider()
+                      : spareDividers.remove(spareDividers.size() - 1);
+
+    labelBar.addComponent(divider, index);
     labelBar.setExpandRatio(divider, getDividerExpandRatio());
   }
 
+  private void removeStepLabelDivider(Divider divider) {
+    labelBar.removeComponent(divider);
+    spareDividers.add(divider);
+  }
+
+  /**
+   * Check if the labels are shown by a single client-side step bar.
+   *
+   * @return <code>true</code> if the step bar is used, <code>false</code> else
+   */
+  public boolean isStepBarEnabled() {
+    return stepBarEnabled;
+  }
+
+  /**
+   * Set whether the labels should be shown by a single client-side step bar instead of one
+   * component per label.
+   * <p>
+   * The step bar sends only the labels that have changed to the client, which reduces the number
+   * of components and the response size for steppers with a lot of steps. Custom labels provided
+   * by a label factory are only used for their state in this case.
+   *
+   * @param stepBarEnabled
+   *     <code>true</code> if the step bar should be used, <code>false</code> else
+   */
+  public void setStepBarEnabled(boolean stepBarEnabled) {
+    if (this.stepBarEnabled == stepBarEnabled) {
+      return;
+    }
+
+    Component previousLabelBar = getActiveLabelBar();
+    this.stepBarEnabled = stepBarEnabled;
+    if (previousLabelBar.getParent() != null) {
+      rootLayout.replaceComponent(previousLabelBar, getActiveLabelBar());
+    }
+
+    if (stepBarEnabled) {
+      labelBar.removeAllComponents();
+    }
+    refreshLabelBar();
+  }
+
+  /**
+   * Get the number of labels shown at once.
+   *
+   * @return The number of labels or <code>0</code> if all labels are shown
+   */
+  public int getLabelWindowSize() {
+    return labelWindow.getSize();
+  }
+
+  /**
+   * Get the number of labels on each side of the shown labels that are kept although they are not
+   * shown.
+   *
+   * @return The number of labels
+   */
+  public int getLabelWindowBuffer() {
+    return labelWindow.getBuffer();
+  }
+
+  /**
+   * Show only the given number of labels around the current step.
+   * <p>
+   * Labels outside of the window are not built or are released again, so the number of components
+   * stays the same regardless of the number of steps. The window follows the current step and can
+   * be scrolled with buttons at both ends of the label bar. This has no effect if the step bar is
+   * enabled.
+   *
+   * @param size
+   *     The number of labels to show or <code>0</code> to show all labels
+   * @param buffer
+   *     The number of labels on each side of the window that are kept, so scrolling does not
+   *     require to build them again
+   */
+  public void setLabelWindow(int size, int buffer) {
+    labelWindow.setSize(size, buffer);
+    labelWindow.reveal(getStepIterator().indexOf(getCurrent()), getSteps().size());
+    refreshLabelBar();
+  }
+
   /**
    * Get the expand ratio for the divider between the labels.
    *
@@ -186,7 +404,11 @@ public class HorizontalStepper extends AbstractStepper
    */
   public void setDividerExpandRatio(float dividerExpandRatio) {
     this.dividerExpandRatio = dividerExpandRatio;
-    refreshLabelBar();
+    labelBar.forEach(component -> {
+      if (component instanceof Divider) {
+        labelBar.setExpandRatio(component, dividerExpandRatio);
+      }
+    });
   }
 
   /**
@@ -219,18 +441,33 @@ public class HorizontalStepper extends AbstractStepper
   @Override
   public void onStepperComplete(StepperCompleteEvent event) {
     buttonBar.forEach(b -> b.setVisible(false));
+    stepBar.refresh();
+  }
+
+  @Override
+  public void onStepperError(StepperErrorEvent event) {
+    stepBar.refresh();
   }
 
   @Override
   public void onElementAdd(ElementAddEvent<Step> event) {
+    onBatchChange(BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public void onElementRemove(ElementRemoveEvent<Step> event) {
+    onBatchChange(BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public void onBatchChange(BatchChangeEvent<Step> event) {
     refresh();
   }
 
   @Override
-  public void refresh() {
-    super.refresh();
+  protected void refreshLayout() {
+    labelWindow.reveal(getStepIterator().indexOf(getCurrent()), getSteps().size());
     refreshLabelBar();
-    setActive(getCurrent(), getCurrent(), false);
   }
 
   @Override
@@ -238,33 +475,47 @@ public class HorizontalStepper extends AbstractStepper
     super.showFeedbackMessage(message);
 
     if (message == null) {
-      refreshLabelBar();
-      setActive(getCurrent(), getCurrent(), false);
+      refresh();
     } else {
-      buttonBar.forEach(button -> button.setVisible(false));
+      Button cancelButton = getCurrent() != null ? getCurrent().getCancelButton() : null;
+      boolean cancellable = isTransitionCancellable();
+      buttonBar.forEach(button -> button.setVisible(cancellable && button == cancelButton));
       showTransitionLabel(message);
       showSpinner();
     }
   }
 
   private void showTransitionLabel(String message) {
-    Label feedbackLabel = new Label(message);
-    feedbackLabel.addStyleName(STYLE_FEEDBACK_MESSAGE);
+    feedbackLabel.setValue(message);
 
-    labelBar.removeAllComponents();
-    labelBar.addComponent(feedbackLabel);
+    Component activeLabelBar = getActiveLabelBar();
+    if (activeLabelBar.getParent() != null) {
+      rootLayout.replaceComponent(activeLabelBar, feedbackBar);
+    }
   }
 
   private void showSpinner() {
-    stepContent.setContent(new CenteredLayout(new Spinner()));
+    feedbackIndicator.setProgress(FeedbackHandle.INDETERMINATE);
+    stepContent.setContent(feedbackIndicator);
+  }
+
+  @Override
+  protected void showFeedbackProgress(String message, double fraction) {
+    feedbackLabel.setValue(message);
+    feedbackIndicator.setProgress(fraction);
   }
 
   @Override
   protected void setActive(Step step, Step previousStep, boolean fireEvent) {
-    stepContent.setContent(step.getContent());
+    stepContent.setContent(step != null ? getStepContent(step) : null);
     refreshButtonBar(step);
 
     super.setActive(step, previousStep, fireEvent);
+    stepBar.refresh();
+
+    if (labelWindow.reveal(getStepIterator().indexOf(step), getSteps().size())) {
+      refreshLabelBar();
+    }
   }
 
   private void refreshButtonBar(Step step) {
@@ -279,11 +530,12 @@ public class HorizontalStepper extends AbstractStepper
     Button cancelButton = step.getCancelButton();
     Button skipButton = step.getSkipButton();
     Button nextButton = step.getNextButton();
+    NavigationSnapshot snapshot = getStepIterator().getSnapshot();
 
-    backButton.setVisible(getStepIterator().hasPrevious());
+    backButton.setVisible(snapshot.hasPrevious());
     cancelButton.setVisible(step.isCancellable());
     skipButton.setVisible(step.isOptional());
-    nextButton.setVisible(!isComplete());
+    nextButton.setVisible(!snapshot.isComplete());
 
     buttonBar.addComponent(backButton);
     Spacer.addToLayout(buttonBar);
@@ -292,9 +544,15 @@ public class HorizontalStepper extends AbstractStepper
     buttonBar.addComponent(nextButton);
   }
 
-  @Override
-  public void onElementRemove(ElementRemoveEvent<Step> event) {
-    refresh();
+  /**
+   * Divider between two step labels.
+   */
+  private static class Divider extends CssLayout {
+
+    private Divider() {
+      addStyleName(STYLE_DIVIDER);
+      setWidth(100, Unit.PERCENTAGE);
+    }
   }
 
   /**
@@ -0,0 +1,112 @@
+package org.vaadin.addons.md_stepper;
+
+import com.vaadin.server.FontIcon;
+import com.vaadin.shared.ui.ContentMode;
+import com.vaadin.ui.CssLayout;
+import com.vaadin.ui.Label;
+
+import org.vaadin.addons.md_stepper.util.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * Lightweight label that renders the icon, caption and description of a step as html inside a
+ * single component.
+ * <p>
+ * The label behaves like a {@link StepLabel} but shows its content with a single label inside a css
+ * layout instead of three labels inside two nested layouts. This halves the number of components
+ * the client has to render for large steppers.
+ * It can be used by passing <code>HtmlStepLabel::new</code> as label factory to a stepper.
+ */
+public class HtmlStepLabel extends StepLabel {
+
+  private static final String STYLE_HTML_LABEL = "html-step-label";
+  private static final String STYLE_STEP_ICON = "step-icon";
+  private static final String STYLE_STEP_TEXT = "step-text";
+  private static final String STYLE_STEP_CAPTION = "step-caption";
+  private static final String STYLE_STEP_DESCRIPTION = "step-description";
+  private static final String STYLE_SINGLE_LABEL = "single-label";
+  private static final String STYLE_LABEL_LIGHT_SMALL = "v-label-light v-label-small";
+
+  private final Label content;
+
+  /**
+   * Construct a new label.
+   */
+  public HtmlStepLabel() {
+    super(new CssLayout());
+
+    content = new Label();
+    content.setContentMode(ContentMode.HTML);
+    content.setWidth(100, Unit.PERCENTAGE);
+
+    CssLayout rootLayout = (CssLayout) getCompositionRoot();
+    rootLayout.setWidth(100, Unit.PERCENTAGE);
+    rootLayout.addComponent(content);
+    addStyleName(STYLE_HTML_LABEL);
+  }
+
+  /**
+   * Construct a new label with the given caption, description and icon.
+   *
+   * @param caption
+   *     The caption to show
+   * @param description
+   *     The description to show
+   * @param icon
+   *     The icon to show
+   */
+  public HtmlStepLabel(String caption, String description, FontIcon icon) {
+    this();
+    setIcon(icon);
+    setCaption(caption);
+    setDescription(description);
+  }
+
+  @Override
+  public void beforeClientResponse(boolean initial) {
+    String html = buildHtml();
+    if (!Objects.equals(content.getValue(), html)) {
+      content.setValue(html);
+    }
+    super.beforeClientResponse(initial);
+  }
+
+  private String buildHtml() {
+    StringBuilder html = new StringBuilder();
+
+    FontIcon icon = getCurrentIcon();
+    String iconHtml = icon != null ? icon.getHtml() : null;
+    if (iconHtml != null && !"".equals(iconHtml)) {
+      html.append("<span class=\"").append(STYLE_STEP_ICON).append("\">")
+          .append(iconHtml)
+          .append("</span>");
+    }
+
+    String caption = isCaptionVisible() ? getCaption() : null;
+    String description = isDescriptionVisible() ? getCurrentDescription() : null;
+    boolean showCaption = !StringUtils.isBlank(caption);
+    boolean showDescription = !StringUtils.isBlank(description);
+
+    html.append("<span class=\"").append(STYLE_STEP_TEXT).append("\">");
+    if (showCaption) {
+      appendText(html, STYLE_STEP_CAPTION, !showDescription, caption);
+    }
+    if (showDescription) {
+      appendText(html, STYLE_LABEL_LIGHT_SMALL + " " + STYLE_STEP_DESCRIPTION, !showCaption,
+                 description);
+    }
+    html.append("</span>");
+
+    return html.toString();
+  }
+
+  private void appendText(StringBuilder html, String styleNames, boolean singleLabel,
+                          String text) {
+    html.append("<div class=\"").append(styleNames);
+    if (singleLabel) {
+      html.append(' ').append(STYLE_SINGLE_LABEL);
+    }
+    html.append("\">").append(StringUtils.escapeHtml(text)).append("</div>");
+  }
+}
@@ -1,17 +1,24 @@
 package org.vaadin.addons.md_stepper;
 
+import com.vaadin.server.FontIcon;
 import com.vaadin.server.Resource;
 import com.vaadin.shared.MouseEventDetails;
 
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener;
 import org.vaadin.addons.md_stepper.collection.ElementRemoveListener;
 import org.vaadin.addons.md_stepper.component.TextIcon;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener;
 import org.vaadin.addons.md_stepper.event.StepperErrorListener;
 import org.vaadin.addons.md_stepper.event.StepperFeedbackListener;
+import org.vaadin.addons.md_stepper.shared.StepBarItem;
 import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -20,13 +27,18 @@ import java.util.Objects;
  * Provides labels for steps and handles the changes on them.
  */
 public class LabelProvider
-    implements ElementAddListener<Step>, ElementRemoveListener<Step>,
+    implements ElementAddListener<Step>, ElementRemoveListener<Step>, BatchChangeListener<Step>,
                StepperErrorListener, StepperFeedbackListener, StepperCompleteListener {
 
   private final Map<Step, StepLabel> labels;
+  private final Map<Step, ReleasedState> releasedStates;
   private final StepIterator stepIterator;
   private final SerializableSupplier<StepLabel> labelFactory;
 
+  private StepLabel iconLabel;
+  private Step activeStep;
+  private boolean feedbackShown;
+
   /**
    * Create a new label provider for the given step iterator using the provided label factory.
    *
@@ -41,11 +53,11 @@ public class LabelProvider
     Objects.requireNonNull(labelFactory, "Label factory may not be null");
 
     this.labels = new HashMap<>();
+    this.releasedStates = new HashMap<>();
     this.stepIterator = stepIterator;
     this.labelFactory = labelFactory;
 
-    this.stepIterator.addElementAddListener(this);
-    this.stepIterator.addElementRemoveListener(this);
+    this.stepIterator.addBatchChangeListener(this);
   }
 
   /**
@@ -67,6 +79,8 @@ public class LabelProvider
 
   /**
    * Get the label for the given step.
+   * <p>
+   * The label is built on the first access or if it has been released before.
    *
    * @param step
    *     The step to get the label for
@@ -76,15 +90,145 @@ public class LabelProvider
   public StepLabel getStepLabel(Step step) {
     Objects.requireNonNull(step, "Step may not be null");
 
-    if (!stepIterator.getSteps().contains(step)) {
+    if (!stepIterator.contains(step)) {
       throw new NoSuchElementException("No such step");
     }
 
-    if (!labels.containsKey(step)) {
-      labels.put(step, buildStepLabel(step));
+    StepLabel stepLabel = labels.get(step);
+    if (stepLabel == null) {
+      stepLabel = buildStepLabel(step);
+      ReleasedState releasedState = releasedStates.remove(step);
+      if (releasedState != null) {
+        releasedState.applyTo(stepLabel);
+      }
+      applyActiveState(step, stepLabel, stepIterator.getSnapshot());
+      labels.put(step, stepLabel);
     }
 
-    return labels.get(step);
+    return stepLabel;
+  }
+
+  /**
+   * Release the labels of all steps except the given ones.
+   * <p>
+   * Released labels are no longer referenced by the provider. The state that can not be derived
+   * from the step (e.g. if it has been skipped or has an error) is kept, so the label is built in
+   * the same state on the next access.
+   *
+   * @param retainedSteps
+   *     The steps whose labels should be kept
+   */
+  public void retainStepLabels(Collection<Step> retainedSteps) {
+    List<Step> releasedSteps = new ArrayList<>(labels.keySet());
+    releasedSteps.removeAll(retainedSteps);
+    releasedSteps.forEach(this::releaseStepLabel);
+  }
+
+  /**
+   * Release the label of the given step.
+   *
+   * @param step
+   *     The step to release the label for
+   *
+   * @see #retainStepLabels(Collection)
+   */
+  public void releaseStepLabel(Step step) {
+    StepLabel stepLabel = labels.remove(step);
+    if (stepLabel != null && ReleasedState.isRequired(stepLabel)) {
+      releasedStates.put(step, new ReleasedState(stepLabel));
+    }
+  }
+
+  /**
+   * Get the state of the label for the given step as item of a step bar.
+   * <p>
+   * The item is computed from the step and the state kept by this provider, so no label is built
+   * for steps whose label has not been requested yet or has been released.
+   *
+   * @param step
+   *     The step to get the item for
+   *
+   * @return The item for the step
+   */
+  public StepBarItem getStepBarItem(Step step) {
+    Objects.requireNonNull(step, "Step may not be null");
+
+    StepLabel label = labels.get(step);
+    if (label != null) {
+      return getStepBarItem(label);
+    }
+
+    if (!stepIterator.contains(step)) {
+      throw new NoSuchElementException("No such step");
+    }
+
+    ReleasedState releasedState = releasedStates.get(step);
+    boolean nexted = releasedState != null && releasedState.nexted;
+    boolean skipped = releasedState != null && releasedState.skipped;
+    boolean editable = releasedState != null && releasedState.editable;
+    boolean disabled = step.isDisabled();
+    Throwable error = releasedState != null ? releasedState.error : null;
+
+    Resource stepIcon = buildStepLabelIcon(step);
+    FontIcon icon = getIconLabel().getStateIcon(stepIcon instanceof FontIcon
+                                                ? (FontIcon) stepIcon
+                                                : null,
+                                                nexted, skipped, editable, disabled,
+                                                error != null);
+
+    int flags = 0;
+    flags |= step == activeStep ? StepBarItem.ACTIVE : 0;
+    flags |= nexted ? StepBarItem.NEXTED : 0;
+    flags |= skipped ? StepBarItem.SKIPPED : 0;
+    flags |= editable ? StepBarItem.EDITABLE : 0;
+    flags |= isClickable(step, stepIterator.getSnapshot()) ? StepBarItem.CLICKABLE : 0;
+    flags |= disabled ? StepBarItem.DISABLED : 0;
+    flags |= error != null ? StepBarItem.ERROR : 0;
+
+    return new StepBarItem(step.getCaption(),
+                           error != null ? error.getLocalizedMessage() : step.getDescription(),
+                           icon != null ? icon.getHtml() : null, flags);
+  }
+
+  private static StepBarItem getStepBarItem(StepLabel label) {
+    FontIcon icon = label.getCurrentIcon();
+
+    int flags = 0;
+    flags |= label.isActive() ? StepBarItem.ACTIVE : 0;
+    flags |= label.isNexted() ? StepBarItem.NEXTED : 0;
+    flags |= label.isSkipped() ? StepBarItem.SKIPPED : 0;
+    flags |= label.isEditable() ? StepBarItem.EDITABLE : 0;
+    flags |= label.isClickable() ? StepBarItem.CLICKABLE : 0;
+    flags |= label.isDisabled() ? StepBarItem.DISABLED : 0;
+    flags |= label.getError() != null ? StepBarItem.ERROR : 0;
+
+    return new StepBarItem(label.getCaption(), label.getCurrentDescription(),
+                           icon != null ? icon.getHtml() : null, flags);
+  }
+
+  /**
+   * Check if the label of the given step is clickable.
+   *
+   * @param step
+   *     The step to check
+   *
+   * @return <code>true</code> if the label is clickable, <code>false</code> else
+   */
+  public boolean isClickable(Step step) {
+    StepLabel label = labels.get(step);
+    return label != null ? label.isClickable() : isClickable(step, stepIterator.getSnapshot());
+  }
+
+  private boolean isClickable(Step step, NavigationSnapshot snapshot) {
+    return activeStep != null && !feedbackShown && snapshot.isReachable(step);
+  }
+
+  // Provides the state icons of the labels built by the factory for steps without a label
+  private StepLabel getIconLabel() {
+    if (iconLabel == null) {
+      iconLabel = labelFactory.get();
+    }
+    return iconLabel;
   }
 
   /**
@@ -122,7 +266,7 @@ public class LabelProvider
     Resource icon = step.getIcon();
     return icon != null
                ? icon
-               : new TextIcon(String.valueOf(stepIterator.getSteps().indexOf(step) + 1));
+               : new TextIcon(String.valueOf(stepIterator.indexOf(step) + 1));
   }
 
   /**
@@ -162,8 +306,9 @@ public class LabelProvider
 
   @Override
   public void onStepperFeedback(StepperFeedbackEvent event) {
-    if (event.getFeedbackMessage() != null) {
-      stepIterator.getSteps().forEach(step -> setClickable(step, false));
+    feedbackShown = event.getFeedbackMessage() != null;
+    if (feedbackShown) {
+      labels.values().forEach(l -> l.setClickable(false));
     }
   }
 
@@ -182,30 +327,52 @@ public class LabelProvider
   @Override
   public void onStepperComplete(StepperCompleteEvent event) {
     labels.values().forEach(l -> l.setEditable(false));
+    releasedStates.values().forEach(s -> s.editable = false);
     setActive(null);
   }
 
   /**
    * Update the labels to show the given step as active.
+   * <p>
+   * Only labels that have already been built are updated, labels built later on are initialized
+   * with the active state on creation.
    *
    * @param step
    *     The step to show as active
    */
   protected void setActive(Step step) {
-    stepIterator.getSteps().forEach(s -> {
-      StepLabel stepLabel = getStepLabel(s);
-      stepLabel.setActive(false);
-      stepLabel.setClickable(step != null && stepIterator.hasMoveTo(s));
-    });
+    activeStep = step;
+    feedbackShown = false;
+
+    NavigationSnapshot snapshot = stepIterator.getSnapshot();
+    labels.forEach((s, stepLabel) -> applyActiveState(s, stepLabel, snapshot));
 
     if (step != null) {
-      getStepLabel(step).setActive(true);
+      getStepLabel(step);
     }
   }
 
+  private void applyActiveState(Step step, StepLabel stepLabel, NavigationSnapshot snapshot) {
+    stepLabel.setActive(step == activeStep);
+    stepLabel.setClickable(isClickable(step, snapshot));
+  }
+
+  @Override
+  public void onElementAdd(ElementAddEvent<Step> event) {
+    onBatchChange(BatchChangeEvent.of(event));
+  }
+
   @Override
   public void onElementRemove(ElementRemoveEvent<Step> event) {
-    labels.remove(event.getElement());
+    onBatchChange(BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public void onBatchChange(BatchChangeEvent<Step> event) {
+    event.getRemoved().forEach(step -> {
+      labels.remove(step);
+      releasedStates.remove(step);
+    });
     refresh();
   }
 
@@ -220,8 +387,33 @@ public class LabelProvider
     });
   }
 
-  @Override
-  public void onElementAdd(ElementAddEvent<Step> event) {
-    refresh();
+  /**
+   * State of a released label that can not be derived from its step.
+   */
+  private static class ReleasedState implements Serializable {
+
+    private final boolean nexted;
+    private final boolean skipped;
+    private final Throwable error;
+    private boolean editable;
+
+    private ReleasedState(StepLabel stepLabel) {
+      this.nexted = stepLabel.isNexted();
+      this.skipped = stepLabel.isSkipped();
+      this.editable = stepLabel.isEditable();
+      this.error = stepLabel.getError();
+    }
+
+    private static boolean isRequired(StepLabel stepLabel) {
+      return stepLabel.isNexted() || stepLabel.isSkipped() || stepLabel.isEditable()
+             || stepLabel.getError() != null;
+    }
+
+    private void applyTo(StepLabel stepLabel) {
+      stepLabel.setNexted(nexted);
+      stepLabel.setSkipped(skipped);
+      stepLabel.setEditable(editable);
+      stepLabel.setError(error);
+    }
   }
 }
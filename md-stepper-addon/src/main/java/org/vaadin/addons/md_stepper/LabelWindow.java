@@ -0,0 +1,158 @@
+package org.vaadin.addons.md_stepper;
+
+import java.io.Serializable;
+
+/**
+ * Window over the steps of a stepper that determines for which steps labels are shown.
+ * <p>
+ * The window keeps the current step visible and can be scrolled to show other steps. Additionally
+ * a buffer around the window defines the labels that are kept although they are not shown, so
+ * scrolling by a few steps does not require building them again.
+ */
+class LabelWindow implements Serializable {
+
+  private int size;
+  private int buffer;
+  private int start;
+
+  /**
+   * Construct a new, disabled window.
+   */
+  LabelWindow() {
+    this.size = 0;
+    this.buffer = 0;
+    this.start = 0;
+  }
+
+  /**
+   * Check if the window is enabled, i.e. if it shows only a part of the steps.
+   *
+   * @return <code>true</code> if the window is enabled, <code>false</code> else
+   */
+  boolean isEnabled() {
+    return size > 0;
+  }
+
+  /**
+   * Get the number of steps shown by the window.
+   *
+   * @return The size or <code>0</code> if the window is disabled
+   */
+  int getSize() {
+    return size;
+  }
+
+  /**
+   * Get the number of steps on each side of the window whose labels are kept.
+   *
+   * @return The buffer
+   */
+  int getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Set the size of the window and of the buffer on each side of it.
+   *
+   * @param size
+   *     The number of steps to show or <code>0</code> to show all steps
+   * @param buffer
+   *     The number of steps on each side of the window whose labels are kept
+   */
+  void setSize(int size, int buffer) {
+    if (size < 0 || buffer < 0) {
+      throw new IllegalArgumentException("Size and buffer may not be negative");
+    }
+
+    this.size = size;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Get the position of the first step in the window.
+   *
+   * @return The position
+   */
+  int getStart() {
+    return isEnabled() ? start : 0;
+  }
+
+  /**
+   * Get the position after the last step in the window.
+   *
+   * @param stepCount
+   *     The number of steps
+   *
+   * @return The position
+   */
+  int getEnd(int stepCount) {
+    return isEnabled() ? Math.min(start + size, stepCount) : stepCount;
+  }
+
+  /**
+   * Move the window so the step at the given position is shown.
+   *
+   * @param index
+   *     The position of the step or <code>-1</code> if there is none
+   * @param stepCount
+   *     The number of steps
+   *
+   * @return <code>true</code> if the window has been moved, <code>false</code> else
+   */
+  boolean reveal(int index, int stepCount) {
+    int newStart = start;
+    if (index >= 0 && index < newStart) {
+      newStart = index;
+    } else if (index >= newStart + size) {
+      newStart = index - size + 1;
+    }
+    return moveTo(newStart, stepCount);
+  }
+
+  /**
+   * Scroll the window by the given number of steps.
+   *
+   * @param delta
+   *     The number of steps to scroll, negative to scroll backward
+   * @param stepCount
+   *     The number of steps
+   *
+   * @return <code>true</code> if the window has been moved, <code>false</code> else
+   */
+  boolean scroll(int delta, int stepCount) {
+    return moveTo(start + delta, stepCount);
+  }
+
+  private boolean moveTo(int newStart, int stepCount) {
+    newStart = Math.max(0, Math.min(newStart, stepCount - size));
+    if (!isEnabled() || newStart == start) {
+      return false;
+    }
+
+    start = newStart;
+    return true;
+  }
+
+  /**
+   * Get the position of the first step whose label is kept, i.e. the start of the buffer in front
+   * of the window.
+   *
+   * @return The position
+   */
+  int getRetainedStart() {
+    return Math.max(0, getStart() - buffer);
+  }
+
+  /**
+   * Get the position after the last step whose label is kept, i.e. the end of the buffer behind
+   * the window.
+   *
+   * @param stepCount
+   *     The number of steps
+   *
+   * @return The position
+   */
+  int getRetainedEnd(int stepCount) {
+    return Math.min(stepCount, getEnd(stepCount) + buffer);
+  }
+}
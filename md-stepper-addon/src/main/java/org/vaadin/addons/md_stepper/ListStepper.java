@@ -1,12 +1,14 @@
 package org.vaadin.addons.md_stepper;
 
+import com.vaadin.icons.VaadinIcons;
 import com.vaadin.ui.*;
 import com.vaadin.ui.themes.ValoTheme;
 
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener;
 import org.vaadin.addons.md_stepper.collection.ElementRemoveListener;
 import org.vaadin.addons.md_stepper.component.Spacer;
-import org.vaadin.addons.md_stepper.component.Spinner;
+import org.vaadin.addons.md_stepper.component.FeedbackIndicator;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener;
 import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
@@ -16,14 +18,20 @@ import java.util.List;
  * Stepper implementation that shows the steps in a vertical style.
  */
 public class ListStepper extends AbstractStepper
-        implements ElementAddListener<Step>, ElementRemoveListener<Step>, StepperCompleteListener {
+        implements ElementAddListener<Step>, ElementRemoveListener<Step>, BatchChangeListener<Step>,
+                   StepperCompleteListener {
 
     private static final String STYLE_ROOT_LAYOUT = "stepper-list";
     private static final String STYLE_STEPSBAR = "stepper-list-stepsbar";
+    private static final String STYLE_SCROLL_BUTTON = "label-scroll-button";
+
+    private final LabelWindow labelWindow = new LabelWindow();
 
     private HorizontalLayout rootStepperLayout;
     private VerticalLayout stepsListLayout;
     private Panel stepsContentPanel;
+    private Button scrollBackButton;
+    private Button scrollForwardButton;
 
     /**
      * Create a new linear, vertical stepper for the given steps using a {@link StepIterator}.
@@ -97,8 +105,7 @@ public class ListStepper extends AbstractStepper
         super(stepIterator, labelProvider);
 
         this.addStepperCompleteListener(this);
-        this.getStepIterator().addElementAddListener(this);
-        this.getStepIterator().addElementRemoveListener(this);
+        this.getStepIterator().addBatchChangeListener(this);
 
         // Build the Layout
         this._buildRootLayout();
@@ -135,17 +142,90 @@ public class ListStepper extends AbstractStepper
         this.rootStepperLayout = rootLayout;
         this.stepsListLayout = stepsListLayout;
         this.stepsContentPanel = stepContentPanel;
+        this.scrollBackButton = this._buildScrollButton(VaadinIcons.ANGLE_UP, -1);
+        this.scrollForwardButton = this._buildScrollButton(VaadinIcons.ANGLE_DOWN, 1);
     }
 
-    private void refreshLayout() {
+    private Button _buildScrollButton (VaadinIcons icon, int direction) {
+        Button button = new Button(icon);
+        button.setWidth(100, Unit.PERCENTAGE);
+        button.addStyleName(ValoTheme.BUTTON_BORDERLESS);
+        button.addStyleName(ValoTheme.BUTTON_ICON_ONLY);
+        button.addStyleName(STYLE_SCROLL_BUTTON);
+        button.addClickListener(event -> {
+            if (this.labelWindow.scroll(direction, getSteps().size())) {
+                this.refreshStepsList();
+            }
+        });
+        return button;
+    }
+
+    /**
+     * Get the number of labels shown at once.
+     *
+     * @return The number of labels or <code>0</code> if all labels are shown
+     */
+    public int getLabelWindowSize() {
+        return this.labelWindow.getSize();
+    }
+
+    /**
+     * Get the number of labels above and below the shown labels that are kept although they are
+     * not shown.
+     *
+     * @return The number of labels
+     */
+    public int getLabelWindowBuffer() {
+        return this.labelWindow.getBuffer();
+    }
+
+    /**
+     * Show only the given number of labels around the current step.
+     * <p>
+     * Labels outside of the window are not built or are released again, so the number of
+     * components stays the same regardless of the number of steps. The window follows the current
+     * step and can be scrolled with buttons above and below the labels.
+     *
+     * @param size
+     *     The number of labels to show or <code>0</code> to show all labels
+     * @param buffer
+     *     The number of labels above and below the window that are kept, so scrolling does not
+     *     require to build them again
+     */
+    public void setLabelWindow(int size, int buffer) {
+        this.labelWindow.setSize(size, buffer);
+        this.refreshLayout();
+    }
+
+    @Override
+    protected void refreshLayout() {
+        this.labelWindow.reveal(getStepIterator().indexOf(getCurrent()), getSteps().size());
+        this.refreshStepsList();
+    }
+
+    private void refreshStepsList() {
         this.stepsListLayout.removeAllComponents();
 
         List<Step> steps = getSteps();
-        steps.forEach(step -> {
+        int start = this.labelWindow.getStart();
+        int end = this.labelWindow.getEnd(steps.size());
+
+        if (start > 0) {
+            this.stepsListLayout.addComponent(this.scrollBackButton);
+        }
+        steps.subList(start, end).forEach(step -> {
             // Add it to the steps list
             this.stepsListLayout.addComponent(getLabelProvider().getStepLabel(step));
         });
+        if (end < steps.size()) {
+            this.stepsListLayout.addComponent(this.scrollForwardButton);
+        }
 
+        if (this.labelWindow.isEnabled()) {
+            int from = this.labelWindow.getRetainedStart();
+            int to = this.labelWindow.getRetainedEnd(steps.size());
+            getLabelProvider().retainStepLabels(steps.subList(from, to));
+        }
     }
 
     @Override
@@ -155,15 +235,17 @@ public class ListStepper extends AbstractStepper
 
     @Override
     public void onElementAdd(ElementAddEvent<Step> event) {
-        refresh();
+        onBatchChange(BatchChangeEvent.of(event));
     }
 
     @Override
-    public void refresh() {
-        super.refresh();
-        refreshLayout();
+    public void onElementRemove(ElementRemoveEvent<Step> event) {
+        onBatchChange(BatchChangeEvent.of(event));
+    }
 
-        setActive(getCurrent(), getCurrent(), false);
+    @Override
+    public void onBatchChange(BatchChangeEvent<Step> event) {
+        refresh();
     }
 
     @Override
@@ -174,15 +256,18 @@ public class ListStepper extends AbstractStepper
     }
 
     @Override
-    protected void setActive(Step step, Step previousStep, boolean fireEvent) {
-        super.setActive(step, previousStep, fireEvent);
-
-        this.stepsContentPanel.setContent(new StepContent(step));
+    protected void showFeedbackProgress(String message, double fraction) {
+        ((StepContent) this.stepsContentPanel.getContent()).updateLoadingIndicator(message, fraction);
     }
 
     @Override
-    public void onElementRemove(ElementRemoveEvent<Step> event) {
-        refresh();
+    protected void setActive(Step step, Step previousStep, boolean fireEvent) {
+        super.setActive(step, previousStep, fireEvent);
+
+        if (this.labelWindow.reveal(getStepIterator().indexOf(step), getSteps().size())) {
+            this.refreshStepsList();
+        }
+        this.stepsContentPanel.setContent(step != null ? new StepContent(step) : null);
     }
 
     /**
@@ -205,6 +290,8 @@ public class ListStepper extends AbstractStepper
 
         private String loadingIndicator = null;
         private boolean hideButtons = false;
+        private Label loadingMessage;
+        private FeedbackIndicator loadingProgress;
 
         private final String STYLE_BUTTON_CONTAINER = "step-button-container";
 
@@ -228,6 +315,16 @@ public class ListStepper extends AbstractStepper
             this.buildLayout();
         }
 
+        public void updateLoadingIndicator (String message, double fraction) {
+            if (this.loadingIndicator == null) {
+                return;
+            }
+
+            this.loadingIndicator = message;
+            this.loadingMessage.setValue(message);
+            this.loadingProgress.setProgress(fraction);
+        }
+
         private void buildLayout () {
             this.removeAllComponents();
             if (this.loadingIndicator == null) {
@@ -239,13 +336,14 @@ public class ListStepper extends AbstractStepper
         }
 
         private boolean isFirstStep (Step pStep) {
-            return getSteps().indexOf(pStep) == 0;
+            return getStepIterator().indexOf(pStep) == 0;
         }
 
         private Panel getMainPanel () {
             Panel contentPanel = new Panel();
-            this.step.getContent().setHeightUndefined();
-            contentPanel.setContent(this.step.getContent());
+            Component content = getStepContent(this.step);
+            content.setHeightUndefined();
+            contentPanel.setContent(content);
             contentPanel.addStyleName(ValoTheme.PANEL_BORDERLESS);
             return contentPanel;
         }
@@ -255,7 +353,7 @@ public class ListStepper extends AbstractStepper
             buttonPanel.addStyleName(STYLE_BUTTON_CONTAINER);
             buttonPanel.setMargin(true);
             buttonPanel.addComponent(this.step.getBackButton());
-            this.step.getBackButton().setEnabled(!isFirstStep(this.step) && getStepIterator().hasPrevious());
+            this.step.getBackButton().setEnabled(!isFirstStep(this.step) && getStepIterator().getSnapshot().hasPrevious());
             if (step.isOptional())
                 buttonPanel.addComponent(this.step.getSkipButton());
 
@@ -273,12 +371,16 @@ public class ListStepper extends AbstractStepper
             subLayout.setSpacing(false);
             subLayout.setMargin(false);
 
-            Spinner loadingSpinner = new Spinner();
+            FeedbackIndicator loadingIndicator = new FeedbackIndicator();
+            loadingIndicator.setSizeUndefined();
             Label feedbackMessage = new Label(loadingMessage);
 
-            subLayout.addComponent(loadingSpinner);
+            subLayout.addComponent(loadingIndicator);
             subLayout.addComponent(feedbackMessage);
 
+            this.loadingProgress = loadingIndicator;
+            this.loadingMessage = feedbackMessage;
+
             loadingContainer.addComponent(subLayout);
             loadingContainer.setComponentAlignment(subLayout, Alignment.MIDDLE_CENTER);
 
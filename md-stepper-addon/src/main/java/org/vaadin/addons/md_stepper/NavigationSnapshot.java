@@ -0,0 +1,148 @@
+package org.vaadin.addons.md_stepper;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Immutable view of the navigation state of a {@link StepIterator}.
+ * <p>
+ * A snapshot is computed once per state change of the iterator and can be queried as often as
+ * needed without triggering any further computation. Snapshots are stamped with the version of
+ * the iterator state they have been computed for.
+ *
+ * @see StepIterator#getSnapshot()
+ */
+public final class NavigationSnapshot implements Serializable {
+
+  private final long version;
+  private final Step current;
+  private final Step next;
+  private final Step previous;
+  private final Step skipTarget;
+  private final boolean complete;
+  private final Set<Step> reachable;
+
+  NavigationSnapshot(long version, Step current, Step next, Step previous, Step skipTarget,
+                     boolean complete, Set<Step> reachable) {
+    this.version = version;
+    this.current = current;
+    this.next = next;
+    this.previous = previous;
+    this.skipTarget = skipTarget;
+    this.complete = complete;
+    this.reachable = Collections.unmodifiableSet(reachable);
+  }
+
+  /**
+   * Create an empty, identity based set to collect the reachable steps of a snapshot.
+   *
+   * @return The set
+   */
+  static Set<Step> newStepSet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  /**
+   * Get the version of the iterator state this snapshot has been computed for.
+   *
+   * @return The version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Get the current step.
+   *
+   * @return The current step or <code>null</code> if no current step exists
+   */
+  public Step getCurrent() {
+    return current;
+  }
+
+  /**
+   * Get the step that would become active by moving forward.
+   *
+   * @return The next step or <code>null</code> if there is no next step
+   */
+  public Step getNext() {
+    return next;
+  }
+
+  /**
+   * Check if there is a next step.
+   *
+   * @return <code>true</code> if there is a next step, <code>false</code> else
+   */
+  public boolean hasNext() {
+    return next != null;
+  }
+
+  /**
+   * Get the step that would become active by moving backward.
+   *
+   * @return The previous step or <code>null</code> if there is no previous step
+   */
+  public Step getPrevious() {
+    return previous;
+  }
+
+  /**
+   * Check if there is a previous step.
+   *
+   * @return <code>true</code> if there is a previous step, <code>false</code> else
+   */
+  public boolean hasPrevious() {
+    return previous != null;
+  }
+
+  /**
+   * Get the step that would become active by skipping the current step.
+   *
+   * @return The skip target or <code>null</code> if the current step can not be skipped
+   */
+  public Step getSkipTarget() {
+    return skipTarget;
+  }
+
+  /**
+   * Check if the current step can be skipped.
+   *
+   * @return <code>true</code> if the current step can be skipped, <code>false</code> else
+   */
+  public boolean hasSkip() {
+    return skipTarget != null;
+  }
+
+  /**
+   * Check if all steps have been visited.
+   *
+   * @return <code>true</code> if the iterator is complete, <code>false</code> else
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Check if the iterator can move to the given step.
+   *
+   * @param step
+   *     The step to check
+   *
+   * @return <code>true</code> if the step is reachable, <code>false</code> else
+   */
+  public boolean isReachable(Step step) {
+    return reachable.contains(step);
+  }
+
+  /**
+   * Get all steps the iterator can move to.
+   *
+   * @return The reachable steps
+   */
+  public Set<Step> getReachable() {
+    return reachable;
+  }
+}
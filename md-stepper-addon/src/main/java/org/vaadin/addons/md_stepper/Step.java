@@ -25,16 +25,24 @@ import org.vaadin.addons.md_stepper.event.StepResetListener.StepResetEvent;
 import org.vaadin.addons.md_stepper.event.StepSkipListener;
 import org.vaadin.addons.md_stepper.event.StepSkipListener.StepSkipEvent;
 import org.vaadin.addons.md_stepper.event.StepperActions;
+import org.vaadin.addons.md_stepper.event.StepperEventBus;
 import org.vaadin.addons.md_stepper.event.StepperListener;
 import org.vaadin.addons.md_stepper.iterator.SkippableElement;
 import org.vaadin.addons.md_stepper.state.StatefulElement;
+import org.vaadin.addons.md_stepper.util.ListenerRegistry;
+import org.vaadin.addons.md_stepper.util.SerializableConsumer;
+import org.vaadin.addons.md_stepper.util.SerializableFunction;
+import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 public class Step extends CustomComponent
@@ -46,13 +54,9 @@ public class Step extends CustomComponent
   private static final List<String> ALLOWED_CHILDREN = Arrays.asList(DESIGN_TAG_CONTENT,
                                                                      DESIGN_TAG_BUTTONS);
 
-  private final Collection<StepActiveListener> stepActiveListeners;
-  private final Collection<StepCompleteListener> stepCompleteListeners;
-  private final Collection<StepResetListener> stepResetListeners;
-  private final Collection<StepBackListener> stepBackListeners;
-  private final Collection<StepNextListener> stepNextListeners;
-  private final Collection<StepSkipListener> stepSkipListeners;
-  private final Collection<StepCancelListener> stepCancelListeners;
+  // Created when the first listener is added
+  private StepperEventBus eventBus;
+  private final List<StepValidator> validators;
 
   private final StepBackListener stepperActionBack;
   private final StepNextListener stepperActionNext;
@@ -61,7 +65,12 @@ public class Step extends CustomComponent
   private String caption;
   private String description;
   private Component content;
+  private SerializableSupplier<Component> contentSupplier;
   private Resource icon;
+  private SerializableFunction<Step, CompletableFuture<?>> preparer;
+  private transient CompletableFuture<Object> preparation;
+  // Created when the first iterator starts to observe the step
+  private ListenerRegistry<SerializableConsumer<Step>> navigationChangeListeners;
 
   private boolean optional;
   private boolean editable;
@@ -95,13 +104,7 @@ public class Step extends CustomComponent
    *     <code>true</code> if the default actions should be added, <code>false</code> else
    */
   public Step(boolean defaultActions) {
-    this.stepActiveListeners = new HashSet<>();
-    this.stepCompleteListeners = new HashSet<>();
-    this.stepResetListeners = new HashSet<>();
-    this.stepBackListeners = new HashSet<>();
-    this.stepNextListeners = new HashSet<>();
-    this.stepSkipListeners = new HashSet<>();
-    this.stepCancelListeners = new HashSet<>();
+    this.validators = new ArrayList<>();
 
     this.stepperActionBack = StepperActions::back;
     this.stepperActionNext = StepperActions::next;
@@ -110,6 +113,7 @@ public class Step extends CustomComponent
     this.caption = "";
     this.description = "";
     this.content = null;
+    this.contentSupplier = null;
     this.icon = null;
 
     this.optional = false;
@@ -118,10 +122,10 @@ public class Step extends CustomComponent
     this.resetOnResubmit = false;
     this.disabled = false;
 
-    this.backButton = createBackButton();
-    this.nextButton = createNextButton();
-    this.skipButton = createSkipButton();
-    this.cancelButton = createCancelButton();
+    this.backButton = null;
+    this.nextButton = null;
+    this.skipButton = null;
+    this.cancelButton = null;
 
     setDefaultActions(defaultActions);
   }
@@ -234,9 +238,10 @@ public class Step extends CustomComponent
    * @return <code>true</code> if the default actions are used, <code>false</code> else
    */
   public boolean isDefaultActions() {
-    return stepBackListeners.contains(stepperActionBack) &&
-           stepNextListeners.contains(stepperActionNext) &&
-           stepSkipListeners.contains(stepperActionSkip);
+    return eventBus != null &&
+           eventBus.hasListener(StepBackEvent.class, stepperActionBack) &&
+           eventBus.hasListener(StepNextEvent.class, stepperActionNext) &&
+           eventBus.hasListener(StepSkipEvent.class, stepperActionSkip);
   }
 
   /**
@@ -267,134 +272,166 @@ public class Step extends CustomComponent
   @Override
   public boolean addStepCompleteListener(StepCompleteListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepCompleteListeners.add(listener);
+    return allocateEventBus().addListener(StepCompleteEvent.class, listener, StepCompleteListener::onStepComplete);
   }
 
   @Override
   public boolean removeStepCompleteListener(StepCompleteListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepCompleteListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepCompleteEvent.class, listener);
   }
 
   @Override
   public boolean addStepResetListener(StepResetListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepResetListeners.add(listener);
+    return allocateEventBus().addListener(StepResetEvent.class, listener, StepResetListener::onStepReset);
   }
 
   @Override
   public boolean removeStepResetListener(StepResetListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepResetListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepResetEvent.class, listener);
   }
 
   @Override
   public boolean addStepBackListener(StepBackListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepBackListeners.add(listener);
+    return allocateEventBus().addListener(StepBackEvent.class, listener, StepBackListener::onStepBack);
   }
 
   @Override
   public boolean removeStepBackListener(StepBackListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepBackListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepBackEvent.class, listener);
   }
 
   @Override
   public boolean addStepNextListener(StepNextListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepNextListeners.add(listener);
+    return allocateEventBus().addListener(StepNextEvent.class, listener, StepNextListener::onStepNext);
   }
 
   @Override
   public boolean removeStepNextListener(StepNextListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepNextListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepNextEvent.class, listener);
   }
 
   @Override
   public boolean addStepSkipListener(StepSkipListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepSkipListeners.add(listener);
+    return allocateEventBus().addListener(StepSkipEvent.class, listener, StepSkipListener::onStepSkip);
   }
 
   @Override
   public boolean removeStepSkipListener(StepSkipListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepSkipListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepSkipEvent.class, listener);
   }
 
   @Override
   public boolean addStepCancelListener(StepCancelListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepCancelListeners.add(listener);
+    return allocateEventBus().addListener(StepCancelEvent.class, listener, StepCancelListener::onStepCancel);
   }
 
   @Override
   public boolean removeStepCancelListener(StepCancelListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepCancelListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepCancelEvent.class, listener);
   }
 
   @Override
   public boolean addStepActiveListener(StepActiveListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepActiveListeners.add(listener);
+    return allocateEventBus().addListener(StepActiveEvent.class, listener, StepActiveListener::onStepActive);
   }
 
   @Override
   public boolean removeStepActiveListener(StepActiveListener listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return stepActiveListeners.remove(listener);
+    return eventBus != null && eventBus.removeListener(StepActiveEvent.class, listener);
   }
 
   public void notifyActive(Stepper stepper, Step previousStep) {
+    notifyActive(stepper, previousStep, null);
+  }
+
+  public void notifyActive(Stepper stepper, Step previousStep, Object preparedResult) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
-    StepActiveEvent activeEvent = new StepActiveEvent(stepper, this, previousStep);
-    stepActiveListeners.forEach(l -> l.onStepActive(activeEvent));
+    if (!hasSubscribers(stepper, StepActiveEvent.class)) {
+      return;
+    }
+
+    StepActiveEvent activeEvent = new StepActiveEvent(stepper, this, previousStep, preparedResult);
+    publish(stepper, activeEvent);
   }
 
   public void notifyComplete(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepCompleteEvent.class)) {
+      return;
+    }
+
     StepCompleteEvent event = new StepCompleteEvent(stepper, this);
-    stepCompleteListeners.forEach(l -> l.onStepComplete(event));
+    publish(stepper, event);
   }
 
   public void notifyReset(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepResetEvent.class)) {
+      return;
+    }
+
     StepResetEvent event = new StepResetEvent(stepper, this);
-    stepResetListeners.forEach(l -> l.onStepReset(event));
+    publish(stepper, event);
   }
 
   public void notifyBack(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepBackEvent.class)) {
+      return;
+    }
+
     StepBackEvent event = new StepBackEvent(stepper, this);
-    stepBackListeners.forEach(l -> l.onStepBack(event));
+    publish(stepper, event);
   }
 
   public void notifyNext(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepNextEvent.class)) {
+      return;
+    }
+
     StepNextEvent event = new StepNextEvent(stepper, this);
-    stepNextListeners.forEach(l -> l.onStepNext(event));
+    publish(stepper, event);
   }
 
   public void notifySkip(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepSkipEvent.class)) {
+      return;
+    }
+
     StepSkipEvent event = new StepSkipEvent(stepper, this);
-    stepSkipListeners.forEach(l -> l.onStepSkip(event));
+    publish(stepper, event);
   }
 
   public void notifyCancel(Stepper stepper) {
     Objects.requireNonNull(stepper, "Stepper may not be null");
 
+    if (!hasSubscribers(stepper, StepCancelEvent.class)) {
+      return;
+    }
+
     StepCancelEvent event = new StepCancelEvent(stepper, this);
-    stepCancelListeners.forEach(l -> l.onStepCancel(event));
+    publish(stepper, event);
   }
 
   /**
@@ -454,65 +491,368 @@ public class Step extends CustomComponent
 
   /**
    * Get the content of the step.
+   * <p>
+   * If a content supplier is set, the content is built on the first call.
    *
    * @return The content of the step
    */
   public Component getContent() {
+    if (content == null && contentSupplier != null) {
+      content = contentSupplier.get();
+    }
     return content;
   }
 
+  /**
+   * Set the content of the step.
+   * <p>
+   * This removes a previously set content supplier.
+   *
+   * @param content
+   *     The content of the step
+   */
   public void setContent(Component content) {
     this.content = content;
+    this.contentSupplier = null;
+  }
+
+  /**
+   * Get the supplier used to build the content of the step.
+   *
+   * @return The content supplier or <code>null</code> if the content has been set directly
+   */
+  public SerializableSupplier<Component> getContentSupplier() {
+    return contentSupplier;
+  }
+
+  /**
+   * Set the supplier used to build the content of the step.
+   * <p>
+   * The content is not built until it is needed for the first time, usually when the step is
+   * activated. This removes a previously set content.
+   *
+   * @param contentSupplier
+   *     The content supplier
+   */
+  public void setContentSupplier(SerializableSupplier<Component> contentSupplier) {
+    this.content = null;
+    this.contentSupplier = contentSupplier;
+  }
+
+  /**
+   * Release the content of the step, so it is built again by the content supplier on the next
+   * access.
+   *
+   * @return <code>true</code> if the content has been released, <code>false</code> if there is no
+   * built content or no content supplier to build it again
+   */
+  public boolean releaseContent() {
+    if (content == null || contentSupplier == null) {
+      return false;
+    }
+
+    content = null;
+    return true;
+  }
+
+  /**
+   * Check if the content of the step has already been built or set.
+   *
+   * @return <code>true</code> if the content is available, <code>false</code> if it still has to
+   * be built by the content supplier
+   */
+  public boolean isContentBuilt() {
+    return content != null;
+  }
+
+  /**
+   * Add a validator that has to pass before the stepper moves forward.
+   *
+   * @param validator
+   *     The validator to add
+   *
+   * @return <code>true</code> if the validator has been added, <code>false</code> else
+   */
+  public boolean addValidator(StepValidator validator) {
+    Objects.requireNonNull(validator, "Validator may not be null");
+    return !validators.contains(validator) && validators.add(validator);
+  }
+
+  /**
+   * Remove the given validator.
+   *
+   * @param validator
+   *     The validator to remove
+   *
+   * @return <code>true</code> if the validator has been removed, <code>false</code> else
+   */
+  public boolean removeValidator(StepValidator validator) {
+    Objects.requireNonNull(validator, "Validator may not be null");
+    return validators.remove(validator);
+  }
+
+  /**
+   * Get the validators of the step.
+   *
+   * @return The validators in the order they have been added
+   */
+  public List<StepValidator> getValidators() {
+    return Collections.unmodifiableList(validators);
+  }
+
+  /**
+   * Check if the step has validators.
+   *
+   * @return <code>true</code> if the step has validators, <code>false</code> else
+   */
+  public boolean hasValidators() {
+    return !validators.isEmpty();
+  }
+
+  /**
+   * Run all validators of the step.
+   * <p>
+   * The validators are started in the calling thread, their results are awaited in parallel.
+   *
+   * @param executor
+   *     The executor passed to the validators to run long checks on
+   *
+   * @return A future that completes if all validators have passed and completes exceptionally
+   * with a {@link StepValidationException} containing all failures otherwise
+   */
+  public CompletableFuture<Void> validate(Executor executor) {
+    Objects.requireNonNull(executor, "Executor may not be null");
+
+    List<CompletableFuture<?>> results = new ArrayList<>(validators.size());
+    for (StepValidator validator : validators) {
+      results.add(startValidation(validator, executor));
+    }
+
+    return CompletableFuture
+        .allOf(results.toArray(new CompletableFuture<?>[0]))
+        .handle((result, error) -> {
+          List<Throwable> failures = new ArrayList<>();
+          results.forEach(r -> r.whenComplete((value, failure) -> {
+            if (failure != null) {
+              failures.add(failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+          }));
+
+          if (!failures.isEmpty()) {
+            throw new CompletionException(new StepValidationException(this, failures));
+          }
+          return null;
+        });
+  }
+
+  private CompletableFuture<?> startValidation(StepValidator validator, Executor executor) {
+    try {
+      CompletionStage<?> stage = validator.validate(this, executor);
+      return stage != null ? stage.toCompletableFuture() : CompletableFuture.completedFuture(null);
+    } catch (Exception e) {
+      CompletableFuture<?> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  private StepperEventBus allocateEventBus() {
+    if (eventBus == null) {
+      eventBus = new StepperEventBus();
+    }
+    return eventBus;
+  }
+
+  private boolean hasSubscribers(Stepper stepper, Class<?> eventType) {
+    StepperEventBus stepperBus = getEventBus(stepper);
+    return eventBus != null && eventBus.hasSubscribers(eventType)
+           || stepperBus != null && stepperBus.hasSubscribers(eventType);
+  }
+
+  private void publish(Stepper stepper, Object event) {
+    if (eventBus != null) {
+      eventBus.publish(event);
+    }
+
+    StepperEventBus stepperBus = getEventBus(stepper);
+    if (stepperBus != null) {
+      stepperBus.publish(event);
+    }
+  }
+
+  private static StepperEventBus getEventBus(Stepper stepper) {
+    // Only the steppers of this add-on have an event bus
+    return stepper instanceof AbstractStepper ? ((AbstractStepper) stepper).getEventBus() : null;
+  }
+
+  /**
+   * Get the function that prepares the step before it is activated.
+   *
+   * @return The preparer or <code>null</code> if none is set
+   */
+  public SerializableFunction<Step, CompletableFuture<?>> getPreparer() {
+    return preparer;
+  }
+
+  /**
+   * Set the function that prepares the step before it is activated, e.g. by loading data.
+   * <p>
+   * The stepper runs the preparer in the background as soon as the step is the next or skip target
+   * of the current step, and discards it once the step is no longer one of them. If the
+   * preparation is not done when the step is activated, the {@link StepActiveEvent} is fired when it
+   * has completed, see {@link AbstractStepper#setPreparationTimeout(java.time.Duration)}. The result
+   * is available by {@link StepActiveEvent#getPreparedResult()}. As the preparer does not run in
+   * the UI thread, it must not access any components.
+   *
+   * @param preparer
+   *     The preparer or <code>null</code> if the step does not need to be prepared
+   */
+  public void setPreparer(SerializableFunction<Step, CompletableFuture<?>> preparer) {
+    this.preparer = preparer;
+    this.preparation = null;
+  }
+
+  /**
+   * Start the preparation of the step using the given executor, if it has not been started yet.
+   *
+   * @param executor
+   *     The executor used to run the preparer
+   *
+   * @return The pending preparation or <code>null</code> if the step has no preparer
+   */
+  public CompletableFuture<Object> prepare(Executor executor) {
+    Objects.requireNonNull(executor, "Executor may not be null");
+
+    if (preparer != null && preparation == null) {
+      SerializableFunction<Step, CompletableFuture<?>> function = preparer;
+      preparation = CompletableFuture
+          .supplyAsync(() -> function.apply(this), executor)
+          .thenCompose(future -> future != null
+                                 ? future.thenApply(result -> (Object) result)
+                                 : CompletableFuture.completedFuture(null));
+    }
+    return preparation;
+  }
+
+  /**
+   * Take the preparation of the step, starting it if necessary.
+   * <p>
+   * The preparation is consumed, so the step is prepared again the next time it is activated.
+   *
+   * @param executor
+   *     The executor used to run the preparer if the preparation has not been started yet
+   *
+   * @return The preparation or <code>null</code> if the step has no preparer
+   */
+  CompletableFuture<Object> takePreparation(Executor executor) {
+    CompletableFuture<Object> result = prepare(executor);
+    preparation = null;
+    return result;
+  }
+
+  /**
+   * Cancel and forget the pending preparation of the step, if any.
+   */
+  void discardPreparation() {
+    CompletableFuture<Object> discarded = preparation;
+    preparation = null;
+    if (discarded != null) {
+      discarded.cancel(true);
+    }
   }
 
   /**
    * Get the back button of the step.
+   * <p>
+   * The button is created by {@link #createBackButton()} on first access if none has been set.
    *
    * @return The back button of the step
    */
   public Button getBackButton() {
+    if (backButton == null) {
+      backButton = createBackButton();
+    }
     return backButton;
   }
 
+  /**
+   * Set the back button of the step.
+   *
+   * @param backButton
+   *     The back button or <code>null</code> to create the default one on next access
+   */
   public void setBackButton(Button backButton) {
     this.backButton = backButton;
   }
 
   /**
    * Get the next button of the step.
+   * <p>
+   * The button is created by {@link #createNextButton()} on first access if none has been set.
    *
    * @return The next button of the step
    */
   public Button getNextButton() {
+    if (nextButton == null) {
+      nextButton = createNextButton();
+    }
     return nextButton;
   }
 
+  /**
+   * Set the next button of the step.
+   *
+   * @param nextButton
+   *     The next button or <code>null</code> to create the default one on next access
+   */
   public void setNextButton(Button nextButton) {
     this.nextButton = nextButton;
   }
 
   /**
    * Get the skip button of the step.
+   * <p>
+   * The button is created by {@link #createSkipButton()} on first access if none has been set.
    *
    * @return The skip button of the step
    */
   public Button getSkipButton() {
+    if (skipButton == null) {
+      skipButton = createSkipButton();
+    }
     return skipButton;
   }
 
+  /**
+   * Set the skip button of the step.
+   *
+   * @param skipButton
+   *     The skip button or <code>null</code> to create the default one on next access
+   */
   public void setSkipButton(Button skipButton) {
     this.skipButton = skipButton;
   }
 
   /**
    * Get the cancel button of the step.
+   * <p>
+   * The button is created by {@link #createCancelButton()} on first access if none has been set.
    *
    * @return The cancel button of the step
    */
   public Button getCancelButton() {
+    if (cancelButton == null) {
+      cancelButton = createCancelButton();
+    }
     return cancelButton;
   }
 
+  /**
+   * Set the cancel button of the step.
+   *
+   * @param cancelButton
+   *     The cancel button or <code>null</code> to create the default one on next access
+   */
   public void setCancelButton(Button cancelButton) {
     this.cancelButton = cancelButton;
   }
@@ -523,7 +863,10 @@ public class Step extends CustomComponent
   }
 
   public void setEditable(boolean editable) {
-    this.editable = editable;
+    if (this.editable != editable) {
+      this.editable = editable;
+      notifyNavigationChange();
+    }
   }
 
   @Override
@@ -532,7 +875,10 @@ public class Step extends CustomComponent
   }
 
   public void setOptional(boolean optional) {
-    this.optional = optional;
+    if (this.optional != optional) {
+      this.optional = optional;
+      notifyNavigationChange();
+    }
   }
 
   public boolean isDisabled () {
@@ -540,7 +886,44 @@ public class Step extends CustomComponent
   }
 
   public void setDisabled(boolean pDisabled ) {
-    this.disabled = pDisabled;
+    if (this.disabled != pDisabled) {
+      this.disabled = pDisabled;
+      notifyNavigationChange();
+    }
+  }
+
+  /**
+   * Add a listener that is notified when the editable, optional or disabled state of the step
+   * changes, as these states influence the navigation of a stepper.
+   *
+   * @param listener
+   *     The listener to add
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> else
+   */
+  boolean addNavigationChangeListener(SerializableConsumer<Step> listener) {
+    if (navigationChangeListeners == null) {
+      navigationChangeListeners = new ListenerRegistry<>();
+    }
+    return navigationChangeListeners.addIfAbsent(listener);
+  }
+
+  /**
+   * Remove a listener added by {@link #addNavigationChangeListener(SerializableConsumer)}.
+   *
+   * @param listener
+   *     The listener to remove
+   *
+   * @return <code>true</code> if the listener has been removed, <code>false</code> else
+   */
+  boolean removeNavigationChangeListener(SerializableConsumer<Step> listener) {
+    return navigationChangeListeners != null && navigationChangeListeners.remove(listener);
+  }
+
+  private void notifyNavigationChange() {
+    if (navigationChangeListeners != null) {
+      navigationChangeListeners.fire(SerializableConsumer::accept, this);
+    }
   }
 
 
@@ -10,9 +10,12 @@ import org.vaadin.addons.md_stepper.event.StepCancelListener;
 import org.vaadin.addons.md_stepper.event.StepCompleteListener;
 import org.vaadin.addons.md_stepper.event.StepNextListener;
 import org.vaadin.addons.md_stepper.event.StepSkipListener;
+import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -26,11 +29,13 @@ public final class StepBuilder {
   private final Collection<StepNextListener> stepNextListeners;
   private final Collection<StepSkipListener> stepSkipListeners;
   private final Collection<StepCancelListener> stepCancelListeners;
+  private final List<StepValidator> validators;
 
   private Resource icon;
   private String caption;
   private String description;
   private Component content;
+  private SerializableSupplier<Component> contentSupplier;
 
   private boolean optional;
   private boolean editable;
@@ -50,6 +55,7 @@ public final class StepBuilder {
     this.stepNextListeners = new HashSet<>();
     this.stepSkipListeners = new HashSet<>();
     this.stepCancelListeners = new HashSet<>();
+    this.validators = new ArrayList<>();
   }
 
   public StepBuilder withCaption(String caption) {
@@ -64,6 +70,13 @@ public final class StepBuilder {
 
   public StepBuilder withContent(Component content) {
     this.content = content;
+    this.contentSupplier = null;
+    return this;
+  }
+
+  public StepBuilder withContentSupplier(SerializableSupplier<Component> contentSupplier) {
+    this.content = null;
+    this.contentSupplier = contentSupplier;
     return this;
   }
 
@@ -153,12 +166,22 @@ public final class StepBuilder {
     return this;
   }
 
+  public StepBuilder withValidator(StepValidator validator) {
+    Objects.requireNonNull(validator, "Validator may not be null");
+    validators.add(validator);
+    return this;
+  }
+
   public Step build() {
     Step step = new Step();
 
     step.setCaption(caption);
     step.setDescription(description);
-    step.setContent(content);
+    if (contentSupplier != null) {
+      step.setContentSupplier(contentSupplier);
+    } else {
+      step.setContent(content);
+    }
     step.setIcon(icon);
     step.setOptional(optional);
     step.setEditable(editable);
@@ -176,6 +199,7 @@ public final class StepBuilder {
     stepNextListeners.forEach(step::addStepNextListener);
     stepSkipListeners.forEach(step::addStepSkipListener);
     stepCancelListeners.forEach(step::addStepCancelListener);
+    validators.forEach(step::addValidator);
 
     return step;
   }
@@ -0,0 +1,167 @@
+package org.vaadin.addons.md_stepper;
+
+import com.vaadin.ui.Component;
+
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps track of the built contents of the steps of a stepper and releases them according to a
+ * {@link ContentCachePolicy}.
+ * <p>
+ * Only the content of steps that use a content supplier (see
+ * {@link Step#setContentSupplier(org.vaadin.addons.md_stepper.util.SerializableSupplier)}) can be
+ * released, as it is built again the next time the step is shown.
+ */
+public class StepContentCache implements BatchChangeListener<Step> {
+
+  private final Stepper stepper;
+  private final LinkedHashSet<Step> activatedSteps;
+  private final Map<Step, Serializable> savedStates;
+
+  private ContentCachePolicy policy;
+  private ContentStateHandler stateHandler;
+
+  /**
+   * Create a new cache for the given stepper that keeps all contents.
+   *
+   * @param stepper
+   *     The stepper to cache the contents for
+   */
+  public StepContentCache(Stepper stepper) {
+    Objects.requireNonNull(stepper, "Stepper may not be null");
+
+    this.stepper = stepper;
+    this.activatedSteps = new LinkedHashSet<>();
+    this.savedStates = new HashMap<>();
+    this.policy = ContentCachePolicy.keepAll();
+    this.stateHandler = null;
+  }
+
+  /**
+   * Get the policy that decides which contents are kept.
+   *
+   * @return The policy
+   */
+  public ContentCachePolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Set the policy that decides which contents are kept.
+   *
+   * @param policy
+   *     The policy
+   */
+  public void setPolicy(ContentCachePolicy policy) {
+    Objects.requireNonNull(policy, "Policy may not be null");
+    this.policy = policy;
+    evict();
+  }
+
+  /**
+   * Get the handler that saves and restores the state of released contents.
+   *
+   * @return The handler or <code>null</code> if none is set
+   */
+  public ContentStateHandler getStateHandler() {
+    return stateHandler;
+  }
+
+  /**
+   * Set the handler that saves and restores the state of released contents.
+   *
+   * @param stateHandler
+   *     The handler or <code>null</code> if the state should not be saved
+   */
+  public void setStateHandler(ContentStateHandler stateHandler) {
+    this.stateHandler = stateHandler;
+  }
+
+  /**
+   * Get the content of the given step for showing it, building it if necessary.
+   * <p>
+   * The step is marked as the most recently activated one and the contents of other steps are
+   * released if the policy says so.
+   *
+   * @param step
+   *     The step to get the content for
+   *
+   * @return The content of the step
+   */
+  public Component getContent(Step step) {
+    Objects.requireNonNull(step, "Step may not be null");
+
+    boolean rebuilt = !step.isContentBuilt();
+    Component content = step.getContent();
+
+    Serializable state = savedStates.remove(step);
+    if (rebuilt && state != null && content != null && stateHandler != null) {
+      stateHandler.restoreState(step, content, state);
+    }
+
+    activatedSteps.remove(step);
+    activatedSteps.add(step);
+    evict();
+
+    return content;
+  }
+
+  /**
+   * Release the content of the given step.
+   *
+   * @param step
+   *     The step to release the content for
+   *
+   * @return <code>true</code> if the content has been released, <code>false</code> if it can not
+   * be built again or has not been built yet
+   */
+  public boolean release(Step step) {
+    Objects.requireNonNull(step, "Step may not be null");
+
+    Component content = step.isContentBuilt() ? step.getContent() : null;
+    if (!step.releaseContent()) {
+      return false;
+    }
+
+    activatedSteps.remove(step);
+    if (stateHandler != null) {
+      Serializable state = stateHandler.saveState(step, content);
+      if (state != null) {
+        savedStates.put(step, state);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Release the contents of all steps that should not be kept according to the policy.
+   */
+  public void evict() {
+    List<Step> steps = new ArrayList<>(activatedSteps);
+    Step current = stepper.getCurrent();
+
+    for (int i = 0; i < steps.size(); i++) {
+      Step step = steps.get(i);
+      int recency = steps.size() - 1 - i;
+      if (step != current && !policy.isRetained(step, recency, stepper)) {
+        release(step);
+      }
+    }
+  }
+
+  @Override
+  public void onBatchChange(BatchChangeEvent<Step> event) {
+    event.getRemoved().forEach(step -> {
+      activatedSteps.remove(step);
+      savedStates.remove(step);
+    });
+  }
+}
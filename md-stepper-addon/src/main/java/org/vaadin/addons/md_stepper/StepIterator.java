@@ -1,5 +1,7 @@
 package org.vaadin.addons.md_stepper;
 
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener.BatchChangeEvent;
 import org.vaadin.addons.md_stepper.collection.CollectionChangeNotifier;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener.ElementAddEvent;
@@ -11,33 +13,54 @@ import org.vaadin.addons.md_stepper.iterator.AbstractObservableIterator;
 import org.vaadin.addons.md_stepper.iterator.NextListener;
 import org.vaadin.addons.md_stepper.iterator.SkipListener;
 import org.vaadin.addons.md_stepper.list.CircularList;
-import org.vaadin.addons.md_stepper.state.StateTracker;
+import org.vaadin.addons.md_stepper.state.IndexedStateTracker;
 import org.vaadin.addons.md_stepper.state.StateTracker.State;
+import org.vaadin.addons.md_stepper.util.ListenerRegistry;
+import org.vaadin.addons.md_stepper.util.SerializableConsumer;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Iterator that is used to iterate over steps allowing iterations based upon the steps attributes.
+ * <p>
+ * The position of the current step is kept as an index into the step list and the visited and
+ * disabled state of the steps is tracked by position in an {@link IndexedStateTracker} that is
+ * updated whenever a step is completed, reset, enabled, disabled, added or removed. This way the
+ * next open step is found by a bit lookup instead of filtering the whole step list on every
+ * call.
+ * <p>
+ * The position of every step is kept in an identity based index, so looking up the position of
+ * a step does not require a scan of the step list.
+ * <p>
+ * Every state change increments the version of the iterator. Components that need the complete
+ * navigation state should use {@link #getSnapshot()}, which is computed at most once per version.
  */
 public class StepIterator extends AbstractObservableIterator<Step>
     implements CollectionChangeNotifier<Step>, StepCompleteListener, StepResetListener {
 
-  private final Collection<ElementAddListener<Step>> elementAddListeners;
-  private final Collection<ElementRemoveListener<Step>> elementRemoveListeners;
+  private final ListenerRegistry<ElementAddListener<Step>> elementAddListeners;
+  private final ListenerRegistry<ElementRemoveListener<Step>> elementRemoveListeners;
+  private final ListenerRegistry<BatchChangeListener<Step>> batchChangeListeners;
+  private final SerializableConsumer<Step> navigationChangeListener;
 
   private final List<Step> steps;
-  private final StateTracker<Step> stateTracker;
+  private final List<Step> stepsView;
+  private final Map<Step, Integer> positions;
+  private final IndexedStateTracker stateTracker;
 
   private boolean linear;
   private Step current;
+  private int cursor;
+  private long version;
+  private transient NavigationSnapshot snapshot;
 
   /**
    * Create a new, non-linear iterator with an empty step list.
@@ -65,15 +88,20 @@ public class StepIterator extends AbstractObservableIterator<Step>
    *     <code>true</code> if the iterator should be linear, <code>false</code> else
    */
   public StepIterator(List<Step> steps, boolean linear) {
-    this.elementAddListeners = new HashSet<>();
-    this.elementRemoveListeners = new HashSet<>();
+    this.elementAddListeners = new ListenerRegistry<>();
+    this.elementRemoveListeners = new ListenerRegistry<>();
+    this.batchChangeListeners = new ListenerRegistry<>();
+    this.navigationChangeListener = this::onNavigationChange;
 
     this.steps = new ArrayList<>();
-    this.stateTracker = new StateTracker<>();
+    this.stepsView = Collections.unmodifiableList(this.steps);
+    this.positions = new IdentityHashMap<>();
+    this.stateTracker = new IndexedStateTracker();
 
     this.linear = linear;
+    this.cursor = -1;
 
-    steps.forEach(this::add);
+    addAll(steps);
   }
 
   /**
@@ -103,6 +131,7 @@ public class StepIterator extends AbstractObservableIterator<Step>
    */
   public void setLinear(boolean linear) {
     this.linear = linear;
+    invalidateSnapshot();
   }
 
   /**
@@ -111,7 +140,44 @@ public class StepIterator extends AbstractObservableIterator<Step>
    * @return The steps
    */
   public List<Step> getSteps() {
-    return Collections.unmodifiableList(steps);
+    return stepsView;
+  }
+
+  /**
+   * Get the position of the given step.
+   *
+   * @param step
+   *     The step to get the position for
+   *
+   * @return The position of the step or <code>-1</code> if the step is not part of this iterator
+   */
+  public int indexOf(Step step) {
+    Integer index = positions.get(step);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * Check if the given step is part of this iterator.
+   *
+   * @param step
+   *     The step to check
+   *
+   * @return <code>true</code> if the step is part of this iterator, <code>false</code> else
+   */
+  public boolean contains(Step step) {
+    return positions.containsKey(step);
+  }
+
+  /**
+   * Update the positions of all steps starting at the given index.
+   *
+   * @param fromIndex
+   *     The index of the first step whose position changed
+   */
+  private void updatePositions(int fromIndex) {
+    for (int i = fromIndex; i < steps.size(); i++) {
+      positions.put(steps.get(i), i);
+    }
   }
 
   /**
@@ -123,6 +189,71 @@ public class StepIterator extends AbstractObservableIterator<Step>
     return current;
   }
 
+  /**
+   * Get the version of the iterator state. The version changes whenever the current step, the
+   * steps or their visited state change.
+   *
+   * @return The version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Get the navigation snapshot for the current state of the iterator.
+   * <p>
+   * The snapshot is computed lazily and reused until the state of the iterator changes.
+   *
+   * @return The snapshot
+   */
+  public NavigationSnapshot getSnapshot() {
+    if (snapshot == null || snapshot.getVersion() != version) {
+      snapshot = buildSnapshot();
+    }
+    return snapshot;
+  }
+
+  /**
+   * Discard the current navigation snapshot.
+   * <p>
+   * Changes of the editable, optional or disabled state of a step are tracked by the iterator
+   * itself. Use this method if another attribute that influences the navigation has changed.
+   */
+  public void invalidateSnapshot() {
+    version++;
+  }
+
+  private NavigationSnapshot buildSnapshot() {
+    boolean complete = isComplete();
+
+    Set<Step> reachable = NavigationSnapshot.newStepSet();
+    if (!complete) {
+      int firstOpenIndex = linear ? firstOpenIndex(0, -1) : -1;
+      for (int i = 0; i < steps.size(); i++) {
+        Step step = steps.get(i);
+        if (i == cursor || step.isDisabled()) {
+          continue;
+        }
+
+        boolean allowed = stateTracker.isVisited(i)
+                          ? step.isEditable()
+                          : !linear || i == firstOpenIndex;
+        if (allowed) {
+          reachable.add(step);
+        }
+      }
+    }
+
+    int nextIndex = nextIndex();
+    int previousIndex = previousIndex();
+    Step next = nextIndex >= 0 && nextIndex < steps.size() ? steps.get(nextIndex) : null;
+    Step previous = previousIndex >= 0 ? steps.get(previousIndex) : null;
+    Step skipTarget = current != null && current.isOptional() ? next : null;
+
+    return new NavigationSnapshot(version, current, next, previous, skipTarget, complete,
+                                  reachable);
+  }
+
   protected boolean isTransitionAllowed(Step to) {
     return isTransitionAllowed(to, false);
   }
@@ -135,37 +266,48 @@ public class StepIterator extends AbstractObservableIterator<Step>
     if (to.isDisabled())
       return false;
 
-    if (!steps.contains(to) || Objects.equals(current, to) || isComplete()) {
+    int index = indexOf(to);
+    if (index < 0 || index == cursor || isComplete()) {
       return false;
     }
 
-    if (stateTracker.getState(to) == State.VISITED && to.isEditable()) {
-      return true;
-    }
+    return isTransitionAllowed(index, currentShouldBeComplete);
+  }
 
-    List<Step> openSteps = steps
-            .stream()
-            .filter(s -> currentShouldBeComplete || !Objects.equals(s, current))
-            .filter(s -> stateTracker.getState(s) == State.UNVISITED)
-            .filter(s -> !s.isDisabled())
-            .collect(Collectors.toList());
+  private boolean isTransitionAllowed(int index, boolean currentShouldBeComplete) {
+    if (stateTracker.isVisited(index)) {
+      return steps.get(index).isEditable();
+    }
 
     if (linear) {
-      return openSteps.indexOf(to) == 0;
+      return firstOpenIndex(0, currentShouldBeComplete ? -1 : cursor) == index;
     } else {
-      return openSteps.contains(to);
+      return true;
     }
   }
 
+  /**
+   * Get the index of the first unvisited and enabled step starting at the given index.
+   *
+   * @param fromIndex
+   *     The index to start searching from (inclusive)
+   * @param excludedIndex
+   *     An index that should not be taken into account or <code>-1</code>
+   *
+   * @return The index of the step or <code>-1</code> if no such step exists
+   */
+  private int firstOpenIndex(int fromIndex, int excludedIndex) {
+    int index = stateTracker.nextOpen(fromIndex);
+    return index >= 0 && index == excludedIndex ? stateTracker.nextOpen(index + 1) : index;
+  }
+
   /**
    * Check if the iterator is complete and all steps have been visited.
    *
    * @return <code>true</code> if the iterator is complete, <code>false</code> else
    */
   public boolean isComplete() {
-    return steps.stream()
-                .map(stateTracker::getState)
-                .noneMatch(state -> state == State.UNVISITED);
+    return stateTracker.isComplete();
   }
 
   /**
@@ -177,22 +319,39 @@ public class StepIterator extends AbstractObservableIterator<Step>
    * @return <code>true</code> if the step is complete, <code>false</code> else
    */
   public boolean isStepComplete(Step step) {
-    return stateTracker.getState(step) == State.VISITED;
+    int index = indexOf(step);
+    return index >= 0 && stateTracker.isVisited(index);
   }
 
   @Override
   public void onStepComplete(StepCompleteEvent event) {
-    stateTracker.setState(event.getStep(), State.VISITED);
+    setState(event.getStep(), State.VISITED);
   }
 
   @Override
   public void onStepReset(StepResetEvent event) {
-    stateTracker.setState(event.getStep(), State.UNVISITED);
+    setState(event.getStep(), State.UNVISITED);
+  }
+
+  private void onNavigationChange(Step step) {
+    int index = indexOf(step);
+    if (index >= 0) {
+      stateTracker.setDisabled(index, step.isDisabled());
+    }
+    invalidateSnapshot();
+  }
+
+  private void setState(Step step, State state) {
+    int index = indexOf(step);
+    if (index >= 0) {
+      stateTracker.setState(index, state);
+    }
+    invalidateSnapshot();
   }
 
   @Override
   public boolean addElementAddListener(ElementAddListener<Step> listener) {
-    return elementAddListeners.add(listener);
+    return elementAddListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -202,7 +361,7 @@ public class StepIterator extends AbstractObservableIterator<Step>
 
   @Override
   public boolean addElementRemoveListener(ElementRemoveListener<Step> listener) {
-    return elementRemoveListeners.add(listener);
+    return elementRemoveListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -210,6 +369,21 @@ public class StepIterator extends AbstractObservableIterator<Step>
     return elementRemoveListeners.remove(listener);
   }
 
+  @Override
+  public boolean addBatchChangeListener(BatchChangeListener<Step> listener) {
+    return batchChangeListeners.addIfAbsent(listener);
+  }
+
+  @Override
+  public boolean removeBatchChangeListener(BatchChangeListener<Step> listener) {
+    return batchChangeListeners.remove(listener);
+  }
+
+  private void notifyBatchChange(List<Step> added, List<Step> removed) {
+    BatchChangeEvent<Step> event = new BatchChangeEvent<>(steps, added, removed);
+    batchChangeListeners.fire(BatchChangeListener::onBatchChange, event);
+  }
+
   @Override
   public void moveTo(Step element) {
 
@@ -218,10 +392,16 @@ public class StepIterator extends AbstractObservableIterator<Step>
     }
 
     Step tmp = current;
-    current = element;
+    setCurrent(element != null ? indexOf(element) : -1);
     notifyMoveTo(tmp, current);
   }
 
+  private void setCurrent(int index) {
+    cursor = index;
+    current = index >= 0 ? steps.get(index) : null;
+    invalidateSnapshot();
+  }
+
   @Override
   public boolean hasMoveTo(Step element) {
     return isTransitionAllowed(element, linear);
@@ -234,7 +414,7 @@ public class StepIterator extends AbstractObservableIterator<Step>
     }
 
     Step tmp = current;
-    current = steps.get(previousIndex());
+    setCurrent(previousIndex());
     notifyPrevious(tmp, current);
 
     return current;
@@ -247,26 +427,119 @@ public class StepIterator extends AbstractObservableIterator<Step>
 
   @Override
   public int previousIndex() {
-    return steps.stream()
-                .limit(current != null ? steps.indexOf(current) : 0)
-                .filter(this::isTransitionAllowed)
-                .reduce((first, second) -> second)
-                .map(steps::indexOf)
-                .orElse(-1);
+    if (isComplete()) {
+      return -1;
+    }
+
+    int firstOpenIndex = linear ? firstOpenIndex(0, cursor) : -1;
+    for (int i = stateTracker.previousEnabled(cursor - 1); i >= 0;
+         i = stateTracker.previousEnabled(i - 1)) {
+      boolean allowed = stateTracker.isVisited(i)
+                        ? steps.get(i).isEditable()
+                        : !linear || i == firstOpenIndex;
+      if (allowed) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   /**
    * Removes the current step and moves on to the next step.
+   *
+   * @throws IllegalStateException
+   *     if there is no current step
    */
   @Override
   public void remove() {
-    stateTracker.remove(current);
-    steps.remove(current);
+    if (cursor < 0) {
+      throw new IllegalStateException("There is no current step to remove");
+    }
+
+    steps.remove(cursor);
+    positions.remove(current);
+    current.removeNavigationChangeListener(navigationChangeListener);
+    stateTracker.remove(cursor);
+    updatePositions(cursor);
+    cursor = -1;
+    invalidateSnapshot();
 
     ElementRemoveEvent<Step> event = new ElementRemoveEvent<>(steps, current);
-    elementRemoveListeners.forEach(l -> l.onElementRemove(event));
+    elementRemoveListeners.fire(ElementRemoveListener::onElementRemove, event);
 
-    moveTo(steps.get(nextIndex()));
+    Step removed = current;
+    try {
+      moveOnFromRemoved();
+    } finally {
+      notifyBatchChange(Collections.emptyList(), Collections.singletonList(removed));
+    }
+  }
+
+  /**
+   * Remove all given steps that are part of this iterator and notify the batch change listeners
+   * once. If the current step is removed, the iterator moves on to the next step as in {@link
+   * #remove()}.
+   *
+   * @param stepsToRemove
+   *     The steps to remove
+   *
+   * @return <code>true</code> if any step has been removed, <code>false</code> else
+   */
+  public boolean removeAll(Collection<Step> stepsToRemove) {
+    BitSet removedIndices = new BitSet();
+    stepsToRemove.forEach(step -> {
+      int index = indexOf(step);
+      if (index >= 0) {
+        removedIndices.set(index);
+      }
+    });
+
+    if (removedIndices.isEmpty()) {
+      return false;
+    }
+
+    List<Step> removed = new ArrayList<>(removedIndices.cardinality());
+    for (int i = removedIndices.previousSetBit(steps.size()); i >= 0;
+         i = removedIndices.previousSetBit(i - 1)) {
+      Step step = steps.remove(i);
+      positions.remove(step);
+      step.removeNavigationChangeListener(navigationChangeListener);
+      stateTracker.remove(i);
+      removed.add(step);
+    }
+    Collections.reverse(removed);
+
+    boolean currentRemoved = cursor >= 0 && removedIndices.get(cursor);
+    if (cursor >= 0) {
+      cursor = currentRemoved ? -1 : cursor - removedIndices.get(0, cursor).cardinality();
+    }
+    updatePositions(removedIndices.nextSetBit(0));
+    invalidateSnapshot();
+
+    for (Step step : removed) {
+      ElementRemoveEvent<Step> event = new ElementRemoveEvent<>(steps, step);
+      elementRemoveListeners.fire(ElementRemoveListener::onElementRemove, event);
+    }
+
+    // Move on first so listeners of the batch change do not see a removed current step
+    try {
+      if (currentRemoved) {
+        moveOnFromRemoved();
+      }
+    } finally {
+      notifyBatchChange(Collections.emptyList(), removed);
+    }
+    return true;
+  }
+
+  /**
+   * Move on to the next step after the current step has been removed. If there is no next step
+   * (e.g. because the remaining steps are complete or no steps are left), the iterator moves to
+   * no step.
+   */
+  private void moveOnFromRemoved() {
+    int nextIndex = nextIndex();
+    moveTo(nextIndex >= 0 ? steps.get(nextIndex) : null);
   }
 
   @Override
@@ -276,15 +549,65 @@ public class StepIterator extends AbstractObservableIterator<Step>
 
   @Override
   public void add(Step step) {
-    Integer insertIndex = Optional.ofNullable(current)
-                                  .map(s -> steps.indexOf(current) + 1)
-                                  .orElse(steps.size());
-    steps.add(insertIndex, step);
-    step.addStepCompleteListener(this);
-    step.addStepResetListener(this);
+    addAll(Collections.singletonList(step));
+  }
 
-    ElementAddEvent<Step> event = new ElementAddEvent<>(steps, step);
-    elementAddListeners.forEach(l -> l.onElementAdd(event));
+  /**
+   * Add all given steps behind the current step or at the end if there is no current step and
+   * notify the batch change listeners once.
+   *
+   * @param stepsToAdd
+   *     The steps to add
+   *
+   * @return <code>true</code> if any step has been added, <code>false</code> else
+   */
+  public boolean addAll(Collection<Step> stepsToAdd) {
+    return addAll(current != null ? cursor + 1 : steps.size(), stepsToAdd);
+  }
+
+  /**
+   * Insert all given steps at the given position and notify the batch change listeners once.
+   *
+   * @param index
+   *     The position to insert the first step at
+   * @param stepsToAdd
+   *     The steps to add
+   *
+   * @return <code>true</code> if any step has been added, <code>false</code> else
+   */
+  public boolean addAll(int index, Collection<Step> stepsToAdd) {
+    if (index < 0 || index > steps.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + steps.size());
+    }
+
+    if (stepsToAdd.isEmpty()) {
+      return false;
+    }
+
+    List<Step> added = new ArrayList<>(stepsToAdd);
+    steps.addAll(index, added);
+    stateTracker.insert(index, added.size(), State.UNVISITED);
+    for (int i = 0; i < added.size(); i++) {
+      if (added.get(i).isDisabled()) {
+        stateTracker.setDisabled(index + i, true);
+      }
+    }
+    if (cursor >= index) {
+      cursor += added.size();
+    }
+    updatePositions(index);
+    invalidateSnapshot();
+
+    for (Step step : added) {
+      step.addStepCompleteListener(this);
+      step.addStepResetListener(this);
+      step.addNavigationChangeListener(navigationChangeListener);
+
+      ElementAddEvent<Step> event = new ElementAddEvent<>(steps, step);
+      elementAddListeners.fire(ElementAddListener::onElementAdd, event);
+    }
+    notifyBatchChange(added, Collections.emptyList());
+    return true;
   }
 
   @Override
@@ -295,7 +618,7 @@ public class StepIterator extends AbstractObservableIterator<Step>
 
     Step tmp = current;
     if (steps.size() != 0)
-      current = steps.get(nextIndex());
+      setCurrent(nextIndex());
 
     if (tmp == null) {
       notifyStart(new NextListener.NextEvent<>(this, null, current));
@@ -319,20 +642,20 @@ public class StepIterator extends AbstractObservableIterator<Step>
   public int nextIndex() {
     if (current == null) return 0;
 
-    List<Step> stepList = steps
-            .stream()
-            .filter(s -> isTransitionAllowed(s) || Objects.equals(s, current))
-            .filter(s -> stateTracker.getState(s) == State.UNVISITED)
-            .collect(Collectors.toList());
-
     // There are no unfinished steps.
-    if (stepList.size() == 0) return -1;
+    if (isComplete()) return -1;
+
+    boolean currentUnvisited = cursor >= 0 && !stateTracker.isVisited(cursor);
+    int nextOpenIndex = linear
+                        ? firstOpenIndex(0, cursor)
+                        : firstOpenIndex(currentUnvisited ? cursor + 1 : 0, cursor);
+
+    if (!currentUnvisited) return nextOpenIndex;
 
     // There are previous undone steps
-    int currentStepIndex = stepList.indexOf(current);
-    if (currentStepIndex == stepList.size()-1) return 0;
+    if (nextOpenIndex < cursor) return 0;
 
-    return steps.indexOf(stepList.get(++currentStepIndex));
+    return nextOpenIndex;
   }
 
   @Override
@@ -347,7 +670,7 @@ public class StepIterator extends AbstractObservableIterator<Step>
     }
 
     Step tmp = current;
-    current = steps.get(nextIndex());
+    setCurrent(nextIndex());
 
     if (tmp == null) {
       notifyStart(new SkipListener.SkipEvent<>(this, null, current));
@@ -45,7 +45,14 @@ public class StepLabel extends CustomComponent
   private static final String STYLE_STEP_DESCRIPTION = "step-description";
   private static final String STYLE_SINGLE_LABEL = "single-label";
 
-  private final HorizontalLayout rootLayout;
+  private static final int CHANGE_ICON = 1;
+  private static final int CHANGE_CAPTION = 1 << 1;
+  private static final int CHANGE_DESCRIPTION = 1 << 2;
+  private static final int CHANGE_STYLES = 1 << 3;
+  private static final int CHANGE_ALL = CHANGE_ICON | CHANGE_CAPTION | CHANGE_DESCRIPTION
+                                        | CHANGE_STYLES;
+
+  private final LayoutEvents.LayoutClickNotifier clickNotifier;
   private final Label iconLabel;
   private final Label captionLabel;
   private final Label descriptionLabel;
@@ -66,8 +73,12 @@ public class StepLabel extends CustomComponent
   private boolean editable;
   private boolean clickable;
   private boolean disabled;
+  private boolean captionVisible;
+  private boolean descriptionVisible;
   private Throwable error;
 
+  private int changes;
+
   /**
    * Construct a new label.
    */
@@ -87,13 +98,6 @@ public class StepLabel extends CustomComponent
    *     The icon to show
    */
   public StepLabel(String caption, String description, FontIcon icon) {
-    active = false;
-    nexted = false;
-    skipped = false;
-    editable = false;
-    clickable = false;
-    disabled = false;
-
     iconLabel = new Label();
     iconLabel.setWidthUndefined();
     iconLabel.setContentMode(ContentMode.HTML);
@@ -117,7 +121,7 @@ public class StepLabel extends CustomComponent
     captionWrapper.addComponent(captionLabel);
     captionWrapper.addComponent(descriptionLabel);
 
-    rootLayout = new HorizontalLayout();
+    HorizontalLayout rootLayout = new HorizontalLayout();
     rootLayout.setSpacing(false);
     rootLayout.setMargin(false);
     rootLayout.setDefaultComponentAlignment(Alignment.MIDDLE_LEFT);
@@ -126,17 +130,34 @@ public class StepLabel extends CustomComponent
     rootLayout.addComponent(captionWrapper);
     rootLayout.setExpandRatio(captionWrapper, 1);
 
+    clickNotifier = rootLayout;
     setCompositionRoot(rootLayout);
-    addStyleName(STYLE_ROOT_LAYOUT);
-    setIcon(icon);
-    setCaption(caption);
-    setDescription(description);
+    init(caption, description, icon);
+  }
 
-    setIconNexted(DEFAULT_ICON_NEXTED);
-    setIconSkipped(DEFAULT_ICON_SKIPPED);
-    setIconEditable(DEFAULT_ICON_EDITABLE);
-    setIconError(DEFAULT_ICON_ERROR);
-    setIconDisabled(DEFAULT_ICON_DISABLED);
+  /**
+   * Construct a new label that is rendered by the given component instead of the default layout.
+   * <p>
+   * Subclasses using this constructor are responsible for showing the icon, caption and
+   * description of the label, e.g. in {@link #beforeClientResponse(boolean)}. The state styles are
+   * still applied to the label itself.
+   *
+   * @param compositionRoot
+   *     The component that renders the label and notifies about clicks on it
+   * @param <T>
+   *     The type of the composition root
+   */
+  protected <T extends Component & LayoutEvents.LayoutClickNotifier> StepLabel(T compositionRoot) {
+    Objects.requireNonNull(compositionRoot, "Composition root may not be null");
+
+    iconLabel = null;
+    captionLabel = null;
+    descriptionLabel = null;
+    captionWrapper = null;
+
+    clickNotifier = compositionRoot;
+    setCompositionRoot(compositionRoot);
+    init(null, null, null);
   }
 
   /**
@@ -161,17 +182,40 @@ public class StepLabel extends CustomComponent
     this(caption, description, null);
   }
 
+  private void init(String caption, String description, FontIcon icon) {
+    active = false;
+    nexted = false;
+    skipped = false;
+    editable = false;
+    clickable = false;
+    disabled = false;
+    captionVisible = true;
+    descriptionVisible = true;
+    changes = CHANGE_ALL;
+
+    addStyleName(STYLE_ROOT_LAYOUT);
+    setIcon(icon);
+    setCaption(caption);
+    setDescription(description);
+
+    setIconNexted(DEFAULT_ICON_NEXTED);
+    setIconSkipped(DEFAULT_ICON_SKIPPED);
+    setIconEditable(DEFAULT_ICON_EDITABLE);
+    setIconError(DEFAULT_ICON_ERROR);
+    setIconDisabled(DEFAULT_ICON_DISABLED);
+  }
+
   @Override
   public Registration addLayoutClickListener(LayoutEvents.LayoutClickListener listener) {
     Objects.requireNonNull(listener, "listener may not be null");
-    return rootLayout.addLayoutClickListener(listener);
+    return clickNotifier.addLayoutClickListener(listener);
   }
 
   @Deprecated
   @Override
   public void removeLayoutClickListener(LayoutEvents.LayoutClickListener listener) {
     Objects.requireNonNull(listener, "listener may not be null");
-    rootLayout.removeLayoutClickListener(listener);
+    clickNotifier.removeLayoutClickListener(listener);
   }
 
   @Override
@@ -181,8 +225,10 @@ public class StepLabel extends CustomComponent
 
   @Override
   public void setCaption(String caption) {
-    this.caption = caption;
-    markAsDirty();
+    if (!Objects.equals(this.caption, caption)) {
+      this.caption = caption;
+      markAsChanged(CHANGE_CAPTION);
+    }
   }
 
   @Override
@@ -196,8 +242,10 @@ public class StepLabel extends CustomComponent
       throw new IllegalArgumentException("Only FontIcons are allowed");
     }
 
-    this.icon = (FontIcon) icon;
-    markAsDirty();
+    if (!Objects.equals(this.icon, icon)) {
+      this.icon = (FontIcon) icon;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   @Override
@@ -207,51 +255,135 @@ public class StepLabel extends CustomComponent
 
   @Override
   public void setDescription(String description) {
-    this.description = description;
+    if (!Objects.equals(this.description, description)) {
+      this.description = description;
+      markAsChanged(CHANGE_DESCRIPTION);
+    }
+  }
+
+  /**
+   * Remember the given changes and mark the label as dirty, so only the affected parts of the label
+   * are updated before the next response.
+   *
+   * @param change
+   *     The changes to remember
+   */
+  private void markAsChanged(int change) {
+    changes |= change;
     markAsDirty();
   }
 
   @Override
   public void beforeClientResponse(boolean initial) {
-    setupIcon();
-    setupCaption();
-    setupDescription();
-    setupLabelPositions();
-    setupStyles();
+    int change = initial ? CHANGE_ALL : changes;
+    changes = 0;
+
+    // Labels with a custom composition root render their content themselves
+    if (iconLabel != null) {
+      if ((change & CHANGE_ICON) != 0) {
+        setupIcon();
+      }
+      if ((change & CHANGE_CAPTION) != 0) {
+        setupCaption();
+      }
+      if ((change & CHANGE_DESCRIPTION) != 0) {
+        setupDescription();
+      }
+      if ((change & (CHANGE_CAPTION | CHANGE_DESCRIPTION)) != 0) {
+        setupLabelPositions();
+      }
+    }
+    if ((change & CHANGE_STYLES) != 0) {
+      setupStyles();
+    }
     super.beforeClientResponse(initial);
   }
 
-  private void setupIcon() {
-    iconLabel.setValue(icon != null ? icon.getHtml() : null);
+  /**
+   * Get the icon that is shown depending on the state of the label.
+   *
+   * @return The icon or <code>null</code> if no icon is shown
+   */
+  protected FontIcon getCurrentIcon() {
+    return getStateIcon(icon, nexted, skipped, editable, disabled, error != null);
+  }
+
+  /**
+   * Get the icon that this label would show for the given state.
+   *
+   * @param icon
+   *     The icon of the step
+   * @param nexted
+   *     The nexted state
+   * @param skipped
+   *     The skipped state
+   * @param editable
+   *     The editable state
+   * @param disabled
+   *     The disabled state
+   * @param error
+   *     <code>true</code> if an error is shown, <code>false</code> else
+   *
+   * @return The icon or <code>null</code> if no icon is shown
+   */
+  FontIcon getStateIcon(FontIcon icon, boolean nexted, boolean skipped, boolean editable,
+                        boolean disabled, boolean error) {
+    FontIcon currentIcon = icon;
     if (nexted) {
-      iconLabel.setValue(getIconNexted().getHtml());
+      currentIcon = getIconNexted();
     }
     if (skipped) {
-      iconLabel.setValue(getIconSkipped().getHtml());
+      currentIcon = getIconSkipped();
     }
     if (editable) {
-      iconLabel.setValue(getIconEditable().getHtml());
+      currentIcon = getIconEditable();
     }
     if (disabled) {
-      iconLabel.setValue(getIconDisabled().getHtml());
+      currentIcon = getIconDisabled();
     }
-    if (error != null) {
-      iconLabel.setValue(getIconError().getHtml());
+    if (error) {
+      currentIcon = getIconError();
     }
-    iconLabel.setVisible(iconLabel.getValue() != null && !"".equals(iconLabel.getValue()));
+    return currentIcon;
+  }
+
+  /**
+   * Get the description that is shown, which is the message of the error if there is one.
+   *
+   * @return The description that is shown
+   */
+  protected String getCurrentDescription() {
+    return error != null ? error.getLocalizedMessage() : description;
+  }
+
+  private void setupIcon() {
+    FontIcon currentIcon = getCurrentIcon();
+    String html = currentIcon != null ? currentIcon.getHtml() : null;
+    setValue(iconLabel, html);
+    setVisible(iconLabel, html != null && !"".equals(html));
   }
 
   private void setupCaption() {
-    captionLabel.setValue(caption);
-    captionLabel.setVisible(!StringUtils.isBlank(captionLabel.getValue()));
+    setValue(captionLabel, caption);
+    setVisible(captionLabel, captionVisible && !StringUtils.isBlank(caption));
   }
 
   private void setupDescription() {
-    descriptionLabel.setValue(description);
-    if (error != null) {
-      descriptionLabel.setValue(error.getLocalizedMessage());
+    String value = getCurrentDescription();
+    setValue(descriptionLabel, value);
+    setVisible(descriptionLabel, descriptionVisible && !StringUtils.isBlank(value));
+  }
+
+  private void setValue(Label label, String value) {
+    if (!Objects.equals(label.getValue(), value)) {
+      label.setValue(value);
+    }
+  }
+
+  private void setVisible(Component component, boolean visible) {
+    if (component.isVisible() != visible) {
+      component.setVisible(visible);
     }
-    descriptionLabel.setVisible(!StringUtils.isBlank(descriptionLabel.getValue()));
   }
 
   private void setupLabelPositions() {
@@ -288,7 +420,10 @@ public class StepLabel extends CustomComponent
    */
   public void setIconNexted(FontIcon iconNexted) {
     Objects.requireNonNull(iconNexted, "icon may not be null");
-    this.iconNexted = iconNexted;
+    if (!Objects.equals(this.iconNexted, iconNexted)) {
+      this.iconNexted = iconNexted;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   /**
@@ -308,7 +443,10 @@ public class StepLabel extends CustomComponent
    */
   public void setIconSkipped(FontIcon iconSkipped) {
     Objects.requireNonNull(iconSkipped, "icon may not be null");
-    this.iconSkipped = iconSkipped;
+    if (!Objects.equals(this.iconSkipped, iconSkipped)) {
+      this.iconSkipped = iconSkipped;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   /**
@@ -328,7 +466,10 @@ public class StepLabel extends CustomComponent
    */
   public void setIconEditable(FontIcon iconEditable) {
     Objects.requireNonNull(iconEditable, "icon may not be null");
-    this.iconEditable = iconEditable;
+    if (!Objects.equals(this.iconEditable, iconEditable)) {
+      this.iconEditable = iconEditable;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   public FontIcon getIconDisabled()
@@ -338,7 +479,10 @@ public class StepLabel extends CustomComponent
 
   public void setIconDisabled (FontIcon iconDisabled) {
     Objects.requireNonNull(iconDisabled, "icon may not be null");
-    this.iconDisabled = iconDisabled;
+    if (!Objects.equals(this.iconDisabled, iconDisabled)) {
+      this.iconDisabled = iconDisabled;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   /**
@@ -358,16 +502,25 @@ public class StepLabel extends CustomComponent
    */
   public void setIconError(FontIcon iconError) {
     Objects.requireNonNull(iconError, "icon may not be null");
-    this.iconError = iconError;
+    if (!Objects.equals(this.iconError, iconError)) {
+      this.iconError = iconError;
+      markAsChanged(CHANGE_ICON);
+    }
   }
 
   private void setupSinglePosition(Component component, boolean singlePosition) {
     Alignment alignment = singlePosition ? Alignment.MIDDLE_LEFT : Alignment.TOP_LEFT;
-    captionWrapper.setComponentAlignment(component, alignment);
+    if (!alignment.equals(captionWrapper.getComponentAlignment(component))) {
+      captionWrapper.setComponentAlignment(component, alignment);
+    }
     toggleStyleName(component, STYLE_SINGLE_LABEL, singlePosition);
   }
 
   private void toggleStyleName(Component component, String styleName, boolean enable) {
+    if (enable == hasStyleName(component, styleName)) {
+      return;
+    }
+
     if (enable) {
       component.addStyleName(styleName);
     } else {
@@ -375,6 +528,11 @@ public class StepLabel extends CustomComponent
     }
   }
 
+  private boolean hasStyleName(Component component, String styleName) {
+    String styleNames = component.getStyleName();
+    return styleNames != null && (" " + styleNames + " ").contains(" " + styleName + " ");
+  }
+
   /**
    * Get the active state of the label.
    *
@@ -391,8 +549,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it is be active, <code>false</code> else
    */
   public void setActive(boolean active) {
-    this.active = active;
-    markAsDirty();
+    if (this.active != active) {
+      this.active = active;
+      markAsChanged(CHANGE_STYLES);
+    }
   }
 
   /**
@@ -411,8 +571,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it is be clickable, <code>false</code> else
    */
   public void setClickable(boolean clickable) {
-    this.clickable = clickable;
-    markAsDirty();
+    if (this.clickable != clickable) {
+      this.clickable = clickable;
+      markAsChanged(CHANGE_STYLES);
+    }
   }
 
   /**
@@ -431,8 +593,10 @@ public class StepLabel extends CustomComponent
    *     The error to show
    */
   public void setError(Throwable error) {
-    this.error = error;
-    markAsDirty();
+    if (!Objects.equals(this.error, error)) {
+      this.error = error;
+      markAsChanged(CHANGE_ICON | CHANGE_DESCRIPTION | CHANGE_STYLES);
+    }
   }
 
   /**
@@ -451,8 +615,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it is nexted, <code>false</code> else
    */
   public void setNexted(boolean nexted) {
-    this.nexted = nexted;
-    markAsDirty();
+    if (this.nexted != nexted) {
+      this.nexted = nexted;
+      markAsChanged(CHANGE_ICON | CHANGE_STYLES);
+    }
   }
 
   /**
@@ -471,8 +637,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it is skipped, <code>false</code> else
    */
   public void setSkipped(boolean skipped) {
-    this.skipped = skipped;
-    markAsDirty();
+    if (this.skipped != skipped) {
+      this.skipped = skipped;
+      markAsChanged(CHANGE_ICON | CHANGE_STYLES);
+    }
   }
 
   /**
@@ -491,8 +659,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it is editable, <code>false</code> else
    */
   public void setEditable(boolean editable) {
-    this.editable = editable;
-    markAsDirty();
+    if (this.editable != editable) {
+      this.editable = editable;
+      markAsChanged(CHANGE_ICON | CHANGE_STYLES);
+    }
   }
 
   public boolean isDisabled () {
@@ -500,7 +670,19 @@ public class StepLabel extends CustomComponent
   }
 
   public void setDisabled (boolean pDisabled) {
-    this.disabled = pDisabled;
+    if (this.disabled != pDisabled) {
+      this.disabled = pDisabled;
+      markAsChanged(CHANGE_ICON | CHANGE_STYLES);
+    }
+  }
+
+  /**
+   * Get the visibility state of the caption label.
+   *
+   * @return <code>true</code> if it is visible, <code>false</code> else
+   */
+  public boolean isCaptionVisible() {
+    return captionVisible;
   }
 
   /**
@@ -510,8 +692,19 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it should be visible, <code>false</code> else
    */
   public void setCaptionVisible(boolean visible) {
-    captionLabel.setVisible(visible);
-    markAsDirty();
+    if (captionVisible != visible) {
+      captionVisible = visible;
+      markAsChanged(CHANGE_CAPTION);
+    }
+  }
+
+  /**
+   * Get the visibility state of the description label.
+   *
+   * @return <code>true</code> if it is visible, <code>false</code> else
+   */
+  public boolean isDescriptionVisible() {
+    return descriptionVisible;
   }
 
   /**
@@ -521,8 +714,10 @@ public class StepLabel extends CustomComponent
    *     <code>true</code> if it should be visible, <code>false</code> else
    */
   public void setDescriptionVisible(boolean visible) {
-    descriptionLabel.setVisible(visible);
-    markAsDirty();
+    if (descriptionVisible != visible) {
+      descriptionVisible = visible;
+      markAsChanged(CHANGE_DESCRIPTION);
+    }
   }
 
   /**
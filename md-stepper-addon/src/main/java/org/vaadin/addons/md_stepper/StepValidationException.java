@@ -0,0 +1,52 @@
+package org.vaadin.addons.md_stepper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Exception that contains all failures of the validators of a step.
+ */
+public class StepValidationException extends Exception {
+
+  private final Step step;
+  private final List<Throwable> failures;
+
+  /**
+   * Create a new exception for the given failures.
+   *
+   * @param step
+   *     The step that is invalid
+   * @param failures
+   *     The failures of the validators
+   */
+  public StepValidationException(Step step, List<Throwable> failures) {
+    super(failures.stream()
+                  .map(Throwable::getLocalizedMessage)
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.joining("; ")));
+    this.step = step;
+    this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    this.failures.forEach(this::addSuppressed);
+  }
+
+  /**
+   * Get the step that is invalid.
+   *
+   * @return The step
+   */
+  public Step getStep() {
+    return step;
+  }
+
+  /**
+   * Get the failures of the validators.
+   *
+   * @return The failures in the order of the validators
+   */
+  public List<Throwable> getFailures() {
+    return failures;
+  }
+}
@@ -0,0 +1,32 @@
+package org.vaadin.addons.md_stepper;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Validates a step before the stepper moves forward.
+ * <p>
+ * All validators of a step are started one after another in the UI thread, so they can read the
+ * values of the step content. Checks that take longer (e.g. remote lookups) should run on the
+ * given executor, so the checks of all validators run in parallel.
+ */
+@FunctionalInterface
+public interface StepValidator extends Serializable {
+
+  /**
+   * Validate the given step.
+   *
+   * @param step
+   *     The step to validate
+   * @param executor
+   *     The executor to run long checks on
+   *
+   * @return A stage that completes if the step is valid and completes exceptionally with the
+   * reason otherwise, or <code>null</code> if the step is valid
+   *
+   * @throws Exception
+   *     if the step is invalid
+   */
+  CompletionStage<?> validate(Step step, Executor executor) throws Exception;
+}
@@ -14,6 +14,21 @@ public interface Stepper {
    */
   void refresh();
 
+  /**
+   * Run the given action as one batch.
+   * <p>
+   * Refreshes and changes of the active step caused by the action are not rendered immediately but
+   * once after the outermost batch has been closed. Batches may be nested.
+   * <p>
+   * The default implementation runs the action without batching.
+   *
+   * @param action
+   *     The action to run
+   */
+  default void batch(Runnable action) {
+    action.run();
+  }
+
   /**
    * Get the steps of this stepper.
    *
@@ -21,6 +36,18 @@ public interface Stepper {
    */
   List<Step> getSteps();
 
+  /**
+   * Get the position of the given step.
+   *
+   * @param step
+   *     The step to get the position for
+   *
+   * @return The position of the step or <code>-1</code> if it is not part of the stepper
+   */
+  default int indexOf(Step step) {
+    return getSteps().indexOf(step);
+  }
+
   /**
    * Get the currently active step of this stepper.
    *
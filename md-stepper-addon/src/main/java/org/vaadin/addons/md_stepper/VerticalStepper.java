@@ -12,31 +12,33 @@ import com.vaadin.ui.Panel;
 import com.vaadin.ui.VerticalLayout;
 import com.vaadin.ui.themes.ValoTheme;
 
+import org.vaadin.addons.md_stepper.collection.BatchChangeListener;
 import org.vaadin.addons.md_stepper.collection.ElementAddListener;
 import org.vaadin.addons.md_stepper.collection.ElementRemoveListener;
-import org.vaadin.addons.md_stepper.component.CenteredLayout;
+import org.vaadin.addons.md_stepper.component.FeedbackIndicator;
 import org.vaadin.addons.md_stepper.component.Spacer;
-import org.vaadin.addons.md_stepper.component.Spinner;
 import org.vaadin.addons.md_stepper.event.StepperCompleteListener;
 import org.vaadin.addons.md_stepper.util.SerializableSupplier;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Stepper implementation that shows the steps in a vertical style.
  */
 public class VerticalStepper extends AbstractStepper
-    implements ElementAddListener<Step>, ElementRemoveListener<Step>, StepperCompleteListener {
+    implements ElementAddListener<Step>, ElementRemoveListener<Step>, BatchChangeListener<Step>,
+               StepperCompleteListener {
 
   private static final String STYLE_ROOT_LAYOUT = "stepper-vertical";
 
   private final VerticalLayout rootLayout;
   private final Map<Step, RowLayout> rowMap;
+  private final FeedbackIndicator feedbackIndicator;
 
   private Spacer spacer;
+  private RowLayout activeRow;
 
   /**
    * Create a new linear, vertical stepper for the given steps using a {@link StepIterator}.
@@ -84,10 +86,10 @@ public class VerticalStepper extends AbstractStepper
     super(stepIterator, labelProvider);
 
     addStepperCompleteListener(this);
-    getStepIterator().addElementAddListener(this);
-    getStepIterator().addElementRemoveListener(this);
+    getStepIterator().addBatchChangeListener(this);
 
     this.rowMap = new HashMap<>();
+    this.feedbackIndicator = new FeedbackIndicator();
 
     this.rootLayout = new VerticalLayout();
     this.rootLayout.setDefaultComponentAlignment(Alignment.TOP_LEFT);
@@ -101,18 +103,47 @@ public class VerticalStepper extends AbstractStepper
     refreshLayout();
   }
 
-  private void refreshLayout() {
-    rootLayout.removeAllComponents();
-    rowMap.clear();
+  /**
+   * Update the rows for the current steps.
+   * <p>
+   * Rows are kept per step, so only rows for added steps are created and rows of removed steps are
+   * dropped. The rows of the remaining steps are moved only if their position has changed.
+   */
+  @Override
+  protected void refreshLayout() {
+    StepIterator stepIterator = getStepIterator();
+    rowMap.entrySet().removeIf(entry -> {
+      boolean removed = !stepIterator.contains(entry.getKey());
+      if (removed) {
+        rootLayout.removeComponent(entry.getValue());
+        if (entry.getValue() == activeRow) {
+          activeRow = null;
+        }
+      }
+      return removed;
+    });
 
     List<Step> steps = getSteps();
-    for (Step singleStep : steps) {
-      RowLayout layout = new RowLayout(singleStep);
-      rowMap.put(singleStep, layout);
-      rootLayout.addComponent(layout);
+    for (int i = 0; i < steps.size(); i++) {
+      Step step = steps.get(i);
+      boolean lastStep = i == steps.size() - 1;
+
+      RowLayout layout = rowMap.get(step);
+      if (layout == null) {
+        layout = new RowLayout(step, lastStep);
+        rowMap.put(step, layout);
+      } else {
+        layout.setLastStep(lastStep);
+      }
+
+      if (i >= rootLayout.getComponentCount() || rootLayout.getComponent(i) != layout) {
+        rootLayout.addComponent(layout, i);
+      }
     }
 
-    spacer = Spacer.addToLayout(rootLayout);
+    if (spacer == null) {
+      spacer = Spacer.addToLayout(rootLayout);
+    }
   }
 
   /**
@@ -149,14 +180,17 @@ public class VerticalStepper extends AbstractStepper
 
   @Override
   public void onElementAdd(ElementAddEvent<Step> event) {
-    refresh();
+    onBatchChange(BatchChangeEvent.of(event));
   }
 
   @Override
-  public void refresh() {
-    super.refresh();
-    refreshLayout();
-    setActive(getCurrent(), getCurrent(), false);
+  public void onElementRemove(ElementRemoveEvent<Step> event) {
+    onBatchChange(BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public void onBatchChange(BatchChangeEvent<Step> event) {
+    refresh();
   }
 
   @Override
@@ -167,38 +201,46 @@ public class VerticalStepper extends AbstractStepper
       setActive(getCurrent(), getCurrent(), false);
     }
 
-    rowMap.values()
-          .stream()
-          .filter(RowLayout::isActive)
-          .findFirst()
-          .ifPresent(layout -> layout.showTransitionMessage(message));
+    if (activeRow != null) {
+      activeRow.showTransitionMessage(message);
+    }
   }
 
+  @Override
+  protected void showFeedbackProgress(String message, double fraction) {
+    if (activeRow != null) {
+      activeRow.updateTransitionMessage(message);
+    }
+    feedbackIndicator.setProgress(fraction);
+  }
+
+  /**
+   * Set the given step to be the active step.
+   * <p>
+   * Only the row of the previously active step and the row of the given step are updated, all
+   * other rows are already collapsed.
+   */
   @Override
   protected void setActive(Step step, Step previousStep, boolean fireEvent) {
     if (spacer != null) {
       rootLayout.setExpandRatio(spacer, step != null ? 0 : 1);
     }
 
-    rowMap.entrySet().forEach(entry -> {
-      RowLayout layout = entry.getValue();
-      if (Objects.equals(entry.getKey(), step)) {
-        layout.setActive(true);
-        layout.setHeight(100, Unit.PERCENTAGE);
-        rootLayout.setExpandRatio(layout, 1);
-      } else {
-        layout.setActive(false);
-        layout.setHeightUndefined();
-        rootLayout.setExpandRatio(layout, 0);
-      }
-    });
+    RowLayout layout = step != null ? rowMap.get(step) : null;
+    if (activeRow != null && activeRow != layout) {
+      activeRow.setActive(false);
+      activeRow.setHeightUndefined();
+      rootLayout.setExpandRatio(activeRow, 0);
+    }
 
-    super.setActive(step, previousStep, fireEvent);
-  }
+    if (layout != null) {
+      layout.setActive(true);
+      layout.setHeight(100, Unit.PERCENTAGE);
+      rootLayout.setExpandRatio(layout, 1);
+    }
+    activeRow = layout;
 
-  @Override
-  public void onElementRemove(ElementRemoveEvent<Step> event) {
-    refresh();
+    super.setActive(step, previousStep, fireEvent);
   }
 
   /**
@@ -232,10 +274,14 @@ public class VerticalStepper extends AbstractStepper
 
     private final Step step;
 
+    private Label feedbackLabel;
+
     private boolean active;
+    private boolean lastStep;
 
-    private RowLayout(Step step) {
+    private RowLayout(Step step, boolean lastStep) {
       this.step = step;
+      this.lastStep = lastStep;
 
       label = getLabelProvider().getStepLabel(step);
 
@@ -253,7 +299,7 @@ public class VerticalStepper extends AbstractStepper
       buttonBar.setMargin(false);
       buttonBar.setSpacing(true);
       buttonBar.setWidth(100, Unit.PERCENTAGE);
-      buttonBar.setMargin(new MarginInfo(false, false, !isLastStep(step), false));
+      buttonBar.setMargin(new MarginInfo(false, false, !lastStep, false));
 
       rootLayout = new GridLayout(2, 3);
       rootLayout.setSizeFull();
@@ -269,11 +315,30 @@ public class VerticalStepper extends AbstractStepper
       setCompositionRoot(rootLayout);
       addStyleName(STYLE_COMPONENT);
       setWidth(100, Unit.PERCENTAGE);
-      setActive(false);
+
+      buttonBar.setVisible(false);
+      contentContainer.setVisible(false);
+      refreshDivider();
+    }
+
+    public void setLastStep(boolean lastStep) {
+      if (this.lastStep == lastStep) {
+        return;
+      }
+
+      this.lastStep = lastStep;
+      buttonBar.setMargin(new MarginInfo(false, false, !lastStep, false));
+      refreshDivider();
     }
 
-    private boolean isLastStep(Step step) {
-      return getSteps().indexOf(step) == getSteps().size() - 1;
+    private void refreshDivider() {
+      if (lastStep) {
+        divider.setHeight(0, Unit.PIXELS);
+      } else if (active) {
+        divider.setHeight(100, Unit.PERCENTAGE);
+      } else {
+        divider.setHeightUndefined();
+      }
     }
 
     public boolean isActive() {
@@ -281,6 +346,10 @@ public class VerticalStepper extends AbstractStepper
     }
 
     public void setActive(boolean active) {
+      if (!active && !this.active) {
+        return;
+      }
+
       this.active = active;
 
       buttonBar.setVisible(active);
@@ -289,21 +358,19 @@ public class VerticalStepper extends AbstractStepper
       buttonBar.removeAllComponents();
       contentContainer.setContent(null);
 
-      divider.setHeight(isLastStep(step) ? 0 : -1, Unit.PIXELS);
+      refreshDivider();
 
       if (!active) {
         return;
       }
 
-      if (!isLastStep(step)) {
-        divider.setHeight(100, Unit.PERCENTAGE);
-      }
-      contentContainer.setContent(step.getContent());
+      contentContainer.setContent(getStepContent(step));
 
       Button nextButton = step.getNextButton();
       Button skipButton = step.getSkipButton();
       Button cancelButton = step.getCancelButton();
       Button backButton = step.getBackButton();
+      NavigationSnapshot snapshot = getStepIterator().getSnapshot();
 
       buttonBar.addComponent(nextButton);
       buttonBar.addComponent(skipButton);
@@ -311,10 +378,10 @@ public class VerticalStepper extends AbstractStepper
       Spacer.addToLayout(buttonBar);
       buttonBar.addComponent(backButton);
 
-      nextButton.setVisible(!isComplete());
+      nextButton.setVisible(!snapshot.isComplete());
       cancelButton.setVisible(step.isCancellable());
       skipButton.setVisible(step.isOptional());
-      backButton.setVisible(getStepIterator().hasPrevious());
+      backButton.setVisible(snapshot.hasPrevious());
     }
 
     public void showTransitionMessage(String message) {
@@ -330,21 +397,32 @@ public class VerticalStepper extends AbstractStepper
       label.setDescriptionVisible(message == null);
 
       if (message != null) {
-        Label feedbackLabel = new Label(message);
-        feedbackLabel.addStyleName(STYLE_FEEDBACK_MESSAGE);
-        feedbackLabel.setWidth(100, Unit.PERCENTAGE);
+        if (feedbackLabel == null) {
+          feedbackLabel = new Label();
+          feedbackLabel.addStyleName(STYLE_FEEDBACK_MESSAGE);
+          feedbackLabel.setWidth(100, Unit.PERCENTAGE);
+        }
+        feedbackLabel.setValue(message);
+        feedbackIndicator.setProgress(FeedbackHandle.INDETERMINATE);
 
         rootLayout.addComponent(label, 0, 0);
         rootLayout.addComponent(feedbackLabel, 1, 0);
         rootLayout.setComponentAlignment(feedbackLabel, Alignment.MIDDLE_LEFT);
-        contentContainer.setContent(new CenteredLayout(new Spinner()));
-        buttonBar.forEach(c -> c.setVisible(false));
+        contentContainer.setContent(feedbackIndicator);
+        boolean cancellable = isTransitionCancellable();
+        buttonBar.forEach(c -> c.setVisible(cancellable && c == step.getCancelButton()));
       } else {
         rootLayout.addComponent(label, 0, 0, 1, 0);
         contentContainer.setContent(step);
       }
     }
 
+    public void updateTransitionMessage(String message) {
+      if (feedbackLabel != null) {
+        feedbackLabel.setValue(message);
+      }
+    }
+
     @Override
     public void onStepperComplete(StepperCompleteEvent event) {
       buttonBar.forEach(b -> b.setVisible(false));
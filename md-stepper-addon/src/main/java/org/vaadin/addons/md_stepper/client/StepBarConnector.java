@@ -0,0 +1,50 @@
+package org.vaadin.addons.md_stepper.client;
+
+import com.vaadin.client.ui.AbstractComponentConnector;
+import com.vaadin.shared.ui.Connect;
+
+import org.vaadin.addons.md_stepper.component.StepBar;
+import org.vaadin.addons.md_stepper.shared.StepBarClientRpc;
+import org.vaadin.addons.md_stepper.shared.StepBarItem;
+import org.vaadin.addons.md_stepper.shared.StepBarServerRpc;
+import org.vaadin.addons.md_stepper.shared.StepBarState;
+
+import java.util.List;
+
+/**
+ * Connector between the server-side {@link StepBar} and the {@link StepBarWidget}.
+ */
+@Connect(StepBar.class)
+public class StepBarConnector extends AbstractComponentConnector {
+
+  @Override
+  protected void init() {
+    super.init();
+
+    registerRpc(StepBarClientRpc.class, new StepBarClientRpc() {
+
+      @Override
+      public void setItems(List<StepBarItem> items) {
+        getWidget().setItems(items);
+      }
+
+      @Override
+      public void updateItems(List<Integer> indices, List<StepBarItem> items) {
+        getWidget().updateItems(indices, items);
+      }
+    });
+
+    getWidget().setItemClickHandler(
+        index -> getRpcProxy(StepBarServerRpc.class).itemClicked(index));
+  }
+
+  @Override
+  public StepBarWidget getWidget() {
+    return (StepBarWidget) super.getWidget();
+  }
+
+  @Override
+  public StepBarState getState() {
+    return (StepBarState) super.getState();
+  }
+}
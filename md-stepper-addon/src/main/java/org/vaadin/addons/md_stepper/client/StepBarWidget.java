@@ -0,0 +1,170 @@
+package org.vaadin.addons.md_stepper.client;
+
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.Widget;
+
+import org.vaadin.addons.md_stepper.shared.StepBarItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Widget that shows the labels of all steps with a divider between each of them.
+ * <p>
+ * The labels use the same markup and style names as the server-side step labels, so the theme of
+ * the stepper applies to them as well.
+ */
+public class StepBarWidget extends FlowPanel {
+
+  private static final String STYLE_STEP_LABEL = "step-label";
+  private static final String STYLE_STEP_LABEL_CONTENT = "step-label-content";
+  private static final String STYLE_DIVIDER = "label-divider";
+
+  private final List<StepBarItem> items;
+
+  private ItemClickHandler itemClickHandler;
+
+  /**
+   * Construct a new, empty bar.
+   */
+  public StepBarWidget() {
+    this.items = new ArrayList<>();
+  }
+
+  /**
+   * Handler for clicks on an item of the bar.
+   */
+  @FunctionalInterface
+  public interface ItemClickHandler {
+
+    /**
+     * Triggered if the item at the given position has been clicked.
+     *
+     * @param index
+     *     The position of the item
+     */
+    void onItemClick(int index);
+  }
+
+  /**
+   * Set the handler that is notified about clicks on the items.
+   *
+   * @param itemClickHandler
+   *     The handler
+   */
+  public void setItemClickHandler(ItemClickHandler itemClickHandler) {
+    this.itemClickHandler = itemClickHandler;
+  }
+
+  /**
+   * Replace all items of the bar.
+   *
+   * @param items
+   *     The items to show
+   */
+  public void setItems(List<StepBarItem> items) {
+    clear();
+    this.items.clear();
+    this.items.addAll(items);
+
+    for (int i = 0; i < items.size(); i++) {
+      if (i > 0) {
+        FlowPanel divider = new FlowPanel();
+        divider.setStyleName(STYLE_DIVIDER);
+        add(divider);
+      }
+      add(buildLabel(i, items.get(i)));
+    }
+  }
+
+  /**
+   * Replace the items at the given positions.
+   *
+   * @param indices
+   *     The positions of the items
+   * @param items
+   *     The new items in the same order as the positions
+   */
+  public void updateItems(List<Integer> indices, List<StepBarItem> items) {
+    for (int i = 0; i < indices.size(); i++) {
+      int index = indices.get(i);
+      if (index < this.items.size()) {
+        this.items.set(index, items.get(i));
+        updateLabel((HTML) getWidget(index * 2), items.get(i));
+      }
+    }
+  }
+
+  private Widget buildLabel(int index, StepBarItem item) {
+    HTML label = new HTML();
+    label.addClickHandler(event -> {
+      if (itemClickHandler != null && items.get(index).hasFlag(StepBarItem.CLICKABLE)) {
+        itemClickHandler.onItemClick(index);
+      }
+    });
+    updateLabel(label, item);
+    return label;
+  }
+
+  private void updateLabel(HTML label, StepBarItem item) {
+    label.setStyleName(STYLE_STEP_LABEL);
+    label.setStyleName(Styles.ACTIVE, item.hasFlag(StepBarItem.ACTIVE));
+    label.setStyleName(Styles.NEXTED, item.hasFlag(StepBarItem.NEXTED));
+    label.setStyleName(Styles.SKIPPED, item.hasFlag(StepBarItem.SKIPPED));
+    label.setStyleName(Styles.EDITABLE, item.hasFlag(StepBarItem.EDITABLE));
+    label.setStyleName(Styles.CLICKABLE, item.hasFlag(StepBarItem.CLICKABLE));
+    label.setStyleName(Styles.DISABLED, item.hasFlag(StepBarItem.DISABLED));
+    label.setStyleName(Styles.ERROR, item.hasFlag(StepBarItem.ERROR));
+    label.setHTML(buildHtml(item));
+  }
+
+  private String buildHtml(StepBarItem item) {
+    StringBuilder html = new StringBuilder();
+    html.append("<div class=\"").append(STYLE_STEP_LABEL_CONTENT).append("\">");
+
+    if (item.iconHtml != null && !item.iconHtml.isEmpty()) {
+      html.append("<span class=\"step-icon\">").append(item.iconHtml).append("</span>");
+    }
+
+    boolean showCaption = !isBlank(item.caption);
+    boolean showDescription = !isBlank(item.description);
+
+    html.append("<span class=\"step-text\">");
+    if (showCaption) {
+      html.append("<div class=\"step-caption").append(showDescription ? "" : " single-label")
+          .append("\">").append(SafeHtmlUtils.htmlEscape(item.caption)).append("</div>");
+    }
+    if (showDescription) {
+      html.append("<div class=\"v-label-light v-label-small step-description")
+          .append(showCaption ? "" : " single-label")
+          .append("\">").append(SafeHtmlUtils.htmlEscape(item.description)).append("</div>");
+    }
+    html.append("</span></div>");
+
+    return html.toString();
+  }
+
+  private static boolean isBlank(String str) {
+    return str == null || str.trim().isEmpty();
+  }
+
+  /**
+   * The state style names of a label.
+   */
+  private static final class Styles {
+
+    private static final String ACTIVE = "active";
+    private static final String NEXTED = "nexted";
+    private static final String SKIPPED = "skipped";
+    private static final String EDITABLE = "editable";
+    private static final String CLICKABLE = "clickable";
+    private static final String DISABLED = "disabled";
+    private static final String ERROR = "error";
+
+    private Styles() {
+      // Prevent instantiation
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package org.vaadin.addons.md_stepper.collection;
+
+import java.util.Objects;
+
+/**
+ * Adapter that forwards single element changes to a batch change listener.
+ * <p>
+ * Adapters are equal if they forward to the same listener, so a listener can be removed with a
+ * new adapter.
+ *
+ * @param <E>
+ *     The type of the elements of the collection
+ */
+class BatchChangeAdapter<E> implements ElementAddListener<E>, ElementRemoveListener<E> {
+
+  private final BatchChangeListener<E> listener;
+
+  BatchChangeAdapter(BatchChangeListener<E> listener) {
+    this.listener = Objects.requireNonNull(listener, "Listener may not be null");
+  }
+
+  @Override
+  public void onElementAdd(ElementAddEvent<E> event) {
+    listener.onBatchChange(BatchChangeListener.BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public void onElementRemove(ElementRemoveEvent<E> event) {
+    listener.onBatchChange(BatchChangeListener.BatchChangeEvent.of(event));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return listener.equals(((BatchChangeAdapter<?>) o).listener);
+  }
+
+  @Override
+  public int hashCode() {
+    return listener.hashCode();
+  }
+}
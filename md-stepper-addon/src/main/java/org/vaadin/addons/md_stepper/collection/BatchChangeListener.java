@@ -0,0 +1,119 @@
+package org.vaadin.addons.md_stepper.collection;
+
+import org.vaadin.addons.md_stepper.collection.ElementAddListener.ElementAddEvent;
+import org.vaadin.addons.md_stepper.collection.ElementRemoveListener.ElementRemoveEvent;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.List;
+
+/**
+ * Listener that is triggered once for a batch of elements added to or removed from a collection.
+ *
+ * @param <E>
+ *     The type of the elements of the collection
+ */
+@FunctionalInterface
+public interface BatchChangeListener<E> extends EventListener, Serializable {
+
+  /**
+   * Triggered after elements have been added to or removed from the collection.
+   *
+   * @param event
+   *     The event containing the added and removed elements
+   */
+  void onBatchChange(BatchChangeEvent<E> event);
+
+  /**
+   * Event that contains all elements added and removed in one batch.
+   *
+   * @param <E>
+   *     The type of the elements of the collection
+   */
+  class BatchChangeEvent<E> extends EventObject {
+
+    private final transient List<E> added;
+    private final transient List<E> removed;
+
+    /**
+     * Constructs a prototypical Event.
+     *
+     * @param source
+     *     The collection that has been changed
+     * @param added
+     *     The elements that have been added
+     * @param removed
+     *     The elements that have been removed
+     *
+     * @throws IllegalArgumentException
+     *     if source is null.
+     */
+    public BatchChangeEvent(Collection<E> source, List<E> added, List<E> removed) {
+      super(source);
+      this.added = Collections.unmodifiableList(added);
+      this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Create a batch change event for a single added element.
+     *
+     * @param event
+     *     The event of the added element
+     * @param <E>
+     *     The type of the elements of the collection
+     *
+     * @return The batch change event
+     */
+    public static <E> BatchChangeEvent<E> of(ElementAddEvent<E> event) {
+      return new BatchChangeEvent<>(event.getCollection(),
+                                    Collections.singletonList(event.getElement()),
+                                    Collections.emptyList());
+    }
+
+    /**
+     * Create a batch change event for a single removed element.
+     *
+     * @param event
+     *     The event of the removed element
+     * @param <E>
+     *     The type of the elements of the collection
+     *
+     * @return The batch change event
+     */
+    public static <E> BatchChangeEvent<E> of(ElementRemoveEvent<E> event) {
+      return new BatchChangeEvent<>(event.getCollection(), Collections.emptyList(),
+                                    Collections.singletonList(event.getElement()));
+    }
+
+    /**
+     * Get the collection that has been changed.
+     *
+     * @return The collection
+     */
+    @SuppressWarnings("unchecked")
+    public Collection<E> getCollection() {
+      return (Collection<E>) getSource();
+    }
+
+    /**
+     * Get the elements that have been added.
+     *
+     * @return The added elements
+     */
+    public List<E> getAdded() {
+      return added;
+    }
+
+    /**
+     * Get the elements that have been removed.
+     *
+     * @return The removed elements
+     */
+    public List<E> getRemoved() {
+      return removed;
+    }
+  }
+}
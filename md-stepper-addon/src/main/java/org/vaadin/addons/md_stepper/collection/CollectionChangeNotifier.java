@@ -9,4 +9,35 @@ public interface CollectionChangeNotifier<E> {
   boolean addElementRemoveListener(ElementRemoveListener<E> listener);
 
   boolean removeElementRemoveListener(ElementRemoveListener<E> listener);
+
+  /**
+   * Add a listener that is notified once for every batch of added or removed elements.
+   * <p>
+   * The default implementation notifies the listener for every single element by registering it
+   * as element add and remove listener.
+   *
+   * @param listener
+   *     The listener to add
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> else
+   */
+  default boolean addBatchChangeListener(BatchChangeListener<E> listener) {
+    BatchChangeAdapter<E> adapter = new BatchChangeAdapter<>(listener);
+    boolean added = addElementAddListener(adapter);
+    return addElementRemoveListener(adapter) || added;
+  }
+
+  /**
+   * Remove a listener added with {@link #addBatchChangeListener(BatchChangeListener)}.
+   *
+   * @param listener
+   *     The listener to remove
+   *
+   * @return <code>true</code> if the listener has been removed, <code>false</code> else
+   */
+  default boolean removeBatchChangeListener(BatchChangeListener<E> listener) {
+    BatchChangeAdapter<E> adapter = new BatchChangeAdapter<>(listener);
+    boolean removed = removeElementAddListener(adapter);
+    return removeElementRemoveListener(adapter) || removed;
+  }
 }
@@ -0,0 +1,41 @@
+package org.vaadin.addons.md_stepper.component;
+
+import com.vaadin.ui.ProgressBar;
+
+/**
+ * Centered indicator for long running operations that shows a spinner or, if the progress is
+ * known, a progress bar.
+ */
+public class FeedbackIndicator extends CenteredLayout {
+
+  private final Spinner spinner;
+  private final ProgressBar progressBar;
+
+  /**
+   * Create a new indicator showing a spinner.
+   */
+  public FeedbackIndicator() {
+    spinner = new Spinner();
+
+    progressBar = new ProgressBar();
+    progressBar.setVisible(false);
+
+    addComponents(spinner, progressBar);
+  }
+
+  /**
+   * Set the progress to show.
+   *
+   * @param fraction
+   *     The progress between <code>0</code> and <code>1</code> or a negative value if the
+   *     progress is unknown
+   */
+  public void setProgress(double fraction) {
+    boolean known = fraction >= 0;
+    spinner.setVisible(!known);
+    progressBar.setVisible(known);
+    if (known) {
+      progressBar.setValue((float) Math.min(fraction, 1));
+    }
+  }
+}
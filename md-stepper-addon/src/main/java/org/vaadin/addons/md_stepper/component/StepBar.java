@@ -0,0 +1,174 @@
+package org.vaadin.addons.md_stepper.component;
+
+import com.vaadin.ui.AbstractComponent;
+import com.vaadin.ui.Component;
+
+import org.vaadin.addons.md_stepper.shared.StepBarClientRpc;
+import org.vaadin.addons.md_stepper.shared.StepBarItem;
+import org.vaadin.addons.md_stepper.shared.StepBarServerRpc;
+import org.vaadin.addons.md_stepper.shared.StepBarState;
+import org.vaadin.addons.md_stepper.util.ListenerRegistry;
+import org.vaadin.addons.md_stepper.util.SerializableSupplier;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Component that shows the labels of all steps as one client-side widget.
+ * <p>
+ * The items are requested from the item provider once before each response in which the bar has
+ * been marked as changed using {@link #refresh()}. The items are sent by RPC and are not part of
+ * the shared state: if only some items changed, just those are sent to the client. The whole list
+ * is only sent initially and if the number of items changes.
+ */
+public class StepBar extends AbstractComponent {
+
+  private static final String STYLE_STEP_BAR = "step-bar";
+
+  private final ListenerRegistry<ItemClickListener> itemClickListeners;
+  private final SerializableSupplier<List<StepBarItem>> itemProvider;
+
+  private List<StepBarItem> sentItems;
+
+  /**
+   * Create a new step bar showing the items of the given provider.
+   *
+   * @param itemProvider
+   *     The provider for the items to show
+   */
+  public StepBar(SerializableSupplier<List<StepBarItem>> itemProvider) {
+    Objects.requireNonNull(itemProvider, "Item provider may not be null");
+
+    this.itemClickListeners = new ListenerRegistry<>();
+    this.itemProvider = itemProvider;
+    this.sentItems = new ArrayList<>();
+
+    registerRpc((StepBarServerRpc) this::notifyItemClick);
+    addStyleName(STYLE_STEP_BAR);
+  }
+
+  /**
+   * Update the items of the bar before the next response.
+   */
+  public void refresh() {
+    markAsDirty();
+  }
+
+  @Override
+  public void beforeClientResponse(boolean initial) {
+    super.beforeClientResponse(initial);
+
+    List<StepBarItem> items = new ArrayList<>(itemProvider.get());
+    if (initial || items.size() != sentItems.size()) {
+      sentItems = items;
+      getRpcProxy(StepBarClientRpc.class).setItems(items);
+      return;
+    }
+
+    List<Integer> changedIndices = new ArrayList<>();
+    List<StepBarItem> changedItems = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (!items.get(i).equals(sentItems.get(i))) {
+        changedIndices.add(i);
+        changedItems.add(items.get(i));
+      }
+    }
+
+    if (!changedItems.isEmpty()) {
+      sentItems = items;
+      getRpcProxy(StepBarClientRpc.class).updateItems(changedIndices, changedItems);
+    }
+  }
+
+  @Override
+  protected StepBarState getState() {
+    return (StepBarState) super.getState();
+  }
+
+  @Override
+  protected StepBarState getState(boolean markAsDirty) {
+    return (StepBarState) super.getState(markAsDirty);
+  }
+
+  /**
+   * Add a listener that is notified if an item of the bar has been clicked.
+   *
+   * @param listener
+   *     The listener to add
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> else
+   */
+  public boolean addItemClickListener(ItemClickListener listener) {
+    Objects.requireNonNull(listener, "Listener may not be null");
+    return itemClickListeners.addIfAbsent(listener);
+  }
+
+  /**
+   * Remove the given listener.
+   *
+   * @param listener
+   *     The listener to remove
+   *
+   * @return <code>true</code> if the listener has been removed, <code>false</code> else
+   */
+  public boolean removeItemClickListener(ItemClickListener listener) {
+    Objects.requireNonNull(listener, "Listener may not be null");
+    return itemClickListeners.remove(listener);
+  }
+
+  private void notifyItemClick(int index) {
+    if (index < 0 || index >= sentItems.size()) {
+      return;
+    }
+
+    ItemClickEvent event = new ItemClickEvent(this, index);
+    itemClickListeners.fire(ItemClickListener::onItemClick, event);
+  }
+
+  /**
+   * Listener for clicks on the items of a step bar.
+   */
+  @FunctionalInterface
+  public interface ItemClickListener extends Serializable {
+
+    /**
+     * Triggered if an item of the step bar has been clicked.
+     *
+     * @param event
+     *     The event containing additional information
+     */
+    void onItemClick(ItemClickEvent event);
+  }
+
+  /**
+   * Event that contains information about a click on an item of a step bar.
+   */
+  public static class ItemClickEvent extends Component.Event {
+
+    private final int index;
+
+    /**
+     * Construct a new event.
+     *
+     * @param source
+     *     The step bar that has been clicked
+     * @param index
+     *     The position of the clicked item
+     */
+    public ItemClickEvent(StepBar source, int index) {
+      super(source);
+      this.index = index;
+    }
+
+    /**
+     * Get the position of the clicked item.
+     *
+     * @return The position
+     */
+    public int getIndex() {
+      return index;
+    }
+  }
+}
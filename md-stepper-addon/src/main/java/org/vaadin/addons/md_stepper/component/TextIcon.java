@@ -43,6 +43,22 @@ public final class TextIcon implements FontIcon {
     return "<span class=\"v-icon v-label-bold\">" + text + "</span>";
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return text.equals(((TextIcon) o).text);
+  }
+
+  @Override
+  public int hashCode() {
+    return text.hashCode();
+  }
+
   @Override
   public String getMIMEType() {
     throw new UnsupportedOperationException(FontIcon.class.getSimpleName()
@@ -22,6 +22,7 @@ public interface StepActiveListener extends StepListener {
   class StepActiveEvent extends StepEvent {
 
     private final Step previousStep;
+    private final Object preparedResult;
 
     /**
      * Constructs a prototypical Event.
@@ -37,8 +38,28 @@ public interface StepActiveListener extends StepListener {
      *     if source is null.
      */
     public StepActiveEvent(Stepper source, Step step, Step previousStep) {
+      this(source, step, previousStep, null);
+    }
+
+    /**
+     * Constructs a prototypical Event.
+     *
+     * @param source
+     *     The object on which the Event initially occurred.
+     * @param step
+     *     The step related to this event
+     * @param previousStep
+     *     The step that was active before this step
+     * @param preparedResult
+     *     The result of the preparation of the step
+     *
+     * @throws IllegalArgumentException
+     *     if source is null.
+     */
+    public StepActiveEvent(Stepper source, Step step, Step previousStep, Object preparedResult) {
       super(source, step);
       this.previousStep = previousStep;
+      this.preparedResult = preparedResult;
     }
 
     /**
@@ -49,5 +70,17 @@ public interface StepActiveListener extends StepListener {
     public Step getPreviousStep() {
       return previousStep;
     }
+
+    /**
+     * Get the result of the preparation of the step.
+     *
+     * @return The result or <code>null</code> if the step has no preparer or the preparation has
+     * failed
+     *
+     * @see Step#setPreparer(org.vaadin.addons.md_stepper.util.SerializableFunction)
+     */
+    public Object getPreparedResult() {
+      return preparedResult;
+    }
   }
 }
@@ -0,0 +1,354 @@
+package org.vaadin.addons.md_stepper.event;
+
+import com.vaadin.shared.Registration;
+
+import org.vaadin.addons.md_stepper.util.ListenerRegistry;
+import org.vaadin.addons.md_stepper.util.SerializableBiConsumer;
+import org.vaadin.addons.md_stepper.util.SerializableConsumer;
+import org.vaadin.addons.md_stepper.util.SerializableSupplier;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Event bus that delivers stepper and step events to the subscribers of the event type.
+ * <p>
+ * Subscribers are registered for the exact class of an event, e.g. {@link
+ * StepNextListener.StepNextEvent}, and are notified in the order they have been subscribed.
+ * Synchronous subscribers are notified in the thread that publishes the event, which is the UI
+ * thread for all events of the stepper. Asynchronous subscribers are notified by the executor
+ * returned by {@link #getAsyncExecutor()} and must not change the UI without {@link
+ * com.vaadin.ui.UI#access(Runnable)}. Use them for slow work like auditing that should not delay
+ * the response to the user.
+ * <p>
+ * Asynchronous deliveries never run in the publishing thread. If more deliveries than
+ * {@link #getMaxPendingDeliveries()} are waiting or running, further events are dropped for the
+ * asynchronous subscribers and a warning is logged. Exceptions of asynchronous subscribers are
+ * logged as well.
+ */
+public class StepperEventBus implements Serializable {
+
+  /**
+   * Default maximum number of asynchronous deliveries that may be waiting or running.
+   */
+  public static final int DEFAULT_MAX_PENDING_DELIVERIES = 1000;
+
+  private static final Logger LOGGER = Logger.getLogger(StepperEventBus.class.getName());
+
+  private final Map<Class<?>, ListenerRegistry<Subscriber>> subscribers;
+  private final SerializableSupplier<Executor> defaultAsyncExecutor;
+  private final AtomicInteger pendingDeliveries;
+
+  private transient Executor asyncExecutor;
+  private volatile int maxPendingDeliveries;
+
+  /**
+   * Create a new event bus without subscribers that notifies asynchronous subscribers by the
+   * common fork join pool unless another executor is set.
+   */
+  public StepperEventBus() {
+    this(ForkJoinPool::commonPool);
+  }
+
+  /**
+   * Create a new event bus without subscribers that notifies asynchronous subscribers by the
+   * given executor unless another executor is set.
+   *
+   * @param defaultAsyncExecutor
+   *     The supplier of the executor to use if none is set
+   */
+  public StepperEventBus(SerializableSupplier<Executor> defaultAsyncExecutor) {
+    Objects.requireNonNull(defaultAsyncExecutor, "Default executor may not be null");
+
+    this.subscribers = new HashMap<>();
+    this.defaultAsyncExecutor = defaultAsyncExecutor;
+    this.pendingDeliveries = new AtomicInteger();
+    this.maxPendingDeliveries = DEFAULT_MAX_PENDING_DELIVERIES;
+  }
+
+  /**
+   * Get the executor that notifies asynchronous subscribers.
+   *
+   * @return The executor for asynchronous delivery
+   */
+  public Executor getAsyncExecutor() {
+    return asyncExecutor != null ? asyncExecutor : defaultAsyncExecutor.get();
+  }
+
+  /**
+   * Set the executor that notifies asynchronous subscribers.
+   * <p>
+   * The bus does not shut the executor down. Events may be delivered out of order if the executor
+   * uses more than one thread.
+   *
+   * @param asyncExecutor
+   *     The executor or <code>null</code> to use the default executor
+   */
+  public void setAsyncExecutor(Executor asyncExecutor) {
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  /**
+   * Get the maximum number of asynchronous deliveries that may be waiting or running.
+   *
+   * @return The maximum number of deliveries
+   */
+  public int getMaxPendingDeliveries() {
+    return maxPendingDeliveries;
+  }
+
+  /**
+   * Set the maximum number of asynchronous deliveries that may be waiting or running. Events for
+   * asynchronous subscribers are dropped while the maximum is reached.
+   *
+   * @param maxPendingDeliveries
+   *     The maximum number of deliveries
+   */
+  public void setMaxPendingDeliveries(int maxPendingDeliveries) {
+    if (maxPendingDeliveries < 1) {
+      throw new IllegalArgumentException("Maximum must be at least 1");
+    }
+    this.maxPendingDeliveries = maxPendingDeliveries;
+  }
+
+  /**
+   * Subscribe to events of the given type, which are delivered synchronously.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param subscriber
+   *     The subscriber to notify
+   * @param <E>
+   *     The type of the events
+   *
+   * @return The registration to unsubscribe
+   */
+  public <E> Registration subscribe(Class<E> eventType, SerializableConsumer<? super E> subscriber) {
+    return subscribe(eventType, Delivery.SYNCHRONOUS, subscriber);
+  }
+
+  /**
+   * Subscribe to events of the given type.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param delivery
+   *     Whether the subscriber is notified synchronously or asynchronously
+   * @param subscriber
+   *     The subscriber to notify
+   * @param <E>
+   *     The type of the events
+   *
+   * @return The registration to unsubscribe
+   */
+  public <E> Registration subscribe(Class<E> eventType, Delivery delivery,
+                                    SerializableConsumer<? super E> subscriber) {
+    addListener(eventType, delivery, subscriber, SerializableConsumer::accept);
+    return () -> removeListener(eventType, subscriber);
+  }
+
+  /**
+   * Add a listener that is notified synchronously about events of the given type.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param listener
+   *     The listener to add
+   * @param method
+   *     The method that notifies the listener, e.g. a method reference to the listener method
+   * @param <L>
+   *     The type of the listener
+   * @param <E>
+   *     The type of the events
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> if it was already
+   * added for the event type
+   */
+  public <L, E> boolean addListener(Class<E> eventType, L listener,
+                                    SerializableBiConsumer<? super L, ? super E> method) {
+    return addListener(eventType, Delivery.SYNCHRONOUS, listener, method);
+  }
+
+  /**
+   * Add a listener that is notified about events of the given type.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param delivery
+   *     Whether the listener is notified synchronously or asynchronously
+   * @param listener
+   *     The listener to add
+   * @param method
+   *     The method that notifies the listener, e.g. a method reference to the listener method
+   * @param <L>
+   *     The type of the listener
+   * @param <E>
+   *     The type of the events
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> if it was already
+   * added for the event type
+   */
+  @SuppressWarnings("unchecked")
+  public <L, E> boolean addListener(Class<E> eventType, Delivery delivery, L listener,
+                                    SerializableBiConsumer<? super L, ? super E> method) {
+    Objects.requireNonNull(eventType, "Event type may not be null");
+    Objects.requireNonNull(delivery, "Delivery may not be null");
+    Objects.requireNonNull(listener, "Listener may not be null");
+    Objects.requireNonNull(method, "Method may not be null");
+
+    Subscriber subscriber =
+        new Subscriber(listener, (SerializableBiConsumer<Object, Object>) method, delivery);
+    return subscribers.computeIfAbsent(eventType, type -> new ListenerRegistry<>())
+        .addIfAbsent(subscriber);
+  }
+
+  /**
+   * Remove the given listener for events of the given type.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param listener
+   *     The listener to remove
+   *
+   * @return <code>true</code> if the listener has been removed, <code>false</code> if it was not
+   * added for the event type
+   */
+  public boolean removeListener(Class<?> eventType, Object listener) {
+    ListenerRegistry<Subscriber> registry = subscribers.get(eventType);
+    if (registry == null || !registry.remove(new Subscriber(listener, null, null))) {
+      return false;
+    }
+
+    if (registry.isEmpty()) {
+      subscribers.remove(eventType);
+    }
+    return true;
+  }
+
+  /**
+   * Check if the given listener has been added for events of the given type.
+   *
+   * @param eventType
+   *     The exact type of the events
+   * @param listener
+   *     The listener to check
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> else
+   */
+  public boolean hasListener(Class<?> eventType, Object listener) {
+    ListenerRegistry<Subscriber> registry = subscribers.get(eventType);
+    return registry != null && registry.contains(new Subscriber(listener, null, null));
+  }
+
+  /**
+   * Check if there are subscribers for events of the given type.
+   * <p>
+   * Publishers can use this to avoid creating events nobody listens to.
+   *
+   * @param eventType
+   *     The exact type of the events
+   *
+   * @return <code>true</code> if there are subscribers, <code>false</code> else
+   */
+  public boolean hasSubscribers(Class<?> eventType) {
+    return subscribers.containsKey(eventType);
+  }
+
+  /**
+   * Publish the given event to the subscribers of its type.
+   *
+   * @param event
+   *     The event to publish
+   */
+  public void publish(Object event) {
+    Objects.requireNonNull(event, "Event may not be null");
+
+    ListenerRegistry<Subscriber> registry = subscribers.get(event.getClass());
+    if (registry != null) {
+      registry.fire(this::deliver, event);
+    }
+  }
+
+  private void deliver(Subscriber subscriber, Object event) {
+    if (subscriber.delivery == Delivery.ASYNCHRONOUS) {
+      deliverAsync(subscriber, event);
+    } else {
+      subscriber.method.accept(subscriber.listener, event);
+    }
+  }
+
+  private void deliverAsync(Subscriber subscriber, Object event) {
+    if (pendingDeliveries.incrementAndGet() > maxPendingDeliveries) {
+      pendingDeliveries.decrementAndGet();
+      LOGGER.warning(() -> "Dropped " + event.getClass().getName()
+                           + " for an asynchronous subscriber, too many pending deliveries");
+      return;
+    }
+
+    try {
+      getAsyncExecutor().execute(() -> {
+        try {
+          subscriber.method.accept(subscriber.listener, event);
+        } catch (RuntimeException e) {
+          LOGGER.log(Level.WARNING, "Asynchronous subscriber failed", e);
+        } finally {
+          pendingDeliveries.decrementAndGet();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      pendingDeliveries.decrementAndGet();
+      LOGGER.log(Level.WARNING, "Dropped " + event.getClass().getName()
+                                + " for an asynchronous subscriber", e);
+    }
+  }
+
+  /**
+   * The ways to deliver events to subscribers.
+   */
+  public enum Delivery {
+    /**
+     * Notify the subscriber in the thread that publishes the event.
+     */
+    SYNCHRONOUS,
+    /**
+     * Notify the subscriber by the asynchronous executor of the bus.
+     */
+    ASYNCHRONOUS
+  }
+
+  /**
+   * A listener together with the method that notifies it. Subscribers are equal if their listeners
+   * are equal.
+   */
+  private static final class Subscriber implements Serializable {
+
+    private final Object listener;
+    private final SerializableBiConsumer<Object, Object> method;
+    private final Delivery delivery;
+
+    private Subscriber(Object listener, SerializableBiConsumer<Object, Object> method,
+                       Delivery delivery) {
+      this.listener = listener;
+      this.method = method;
+      this.delivery = delivery;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o || o instanceof Subscriber && listener.equals(((Subscriber) o).listener);
+    }
+
+    @Override
+    public int hashCode() {
+      return listener.hashCode();
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package org.vaadin.addons.md_stepper.iterator;
 
-import java.util.Collection;
-import java.util.HashSet;
+import org.vaadin.addons.md_stepper.util.ListenerRegistry;
+
 import java.util.Objects;
 
 /**
@@ -14,22 +14,22 @@ import java.util.Objects;
 public abstract class AbstractObservableIterator<E>
     implements ObservableIterator<E> {
 
-  protected final Collection<StartListener<E>> startListeners;
-  protected final Collection<EndListener<E>> endListeners;
-  protected final Collection<ElementChangeListener<E>> elementChangeListeners;
-  protected final Collection<PreviousListener<E>> previousListeners;
-  protected final Collection<NextListener<E>> nextListeners;
-  protected final Collection<MoveToListener<E>> moveToListeners;
-  protected final Collection<SkipListener<E>> skipListeners;
+  protected final ListenerRegistry<StartListener<E>> startListeners;
+  protected final ListenerRegistry<EndListener<E>> endListeners;
+  protected final ListenerRegistry<ElementChangeListener<E>> elementChangeListeners;
+  protected final ListenerRegistry<PreviousListener<E>> previousListeners;
+  protected final ListenerRegistry<NextListener<E>> nextListeners;
+  protected final ListenerRegistry<MoveToListener<E>> moveToListeners;
+  protected final ListenerRegistry<SkipListener<E>> skipListeners;
 
   protected AbstractObservableIterator() {
-    this.startListeners = new HashSet<>();
-    this.endListeners = new HashSet<>();
-    this.elementChangeListeners = new HashSet<>();
-    this.previousListeners = new HashSet<>();
-    this.nextListeners = new HashSet<>();
-    this.moveToListeners = new HashSet<>();
-    this.skipListeners = new HashSet<>();
+    this.startListeners = new ListenerRegistry<>();
+    this.endListeners = new ListenerRegistry<>();
+    this.elementChangeListeners = new ListenerRegistry<>();
+    this.previousListeners = new ListenerRegistry<>();
+    this.nextListeners = new ListenerRegistry<>();
+    this.moveToListeners = new ListenerRegistry<>();
+    this.skipListeners = new ListenerRegistry<>();
 
     addNextListener(this::notifyElementChange);
     addPreviousListener(this::notifyElementChange);
@@ -40,13 +40,13 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addNextListener(NextListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return nextListeners.add(listener);
+    return nextListeners.addIfAbsent(listener);
   }
 
   @Override
   public boolean addPreviousListener(PreviousListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return previousListeners.add(listener);
+    return previousListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -58,7 +58,7 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addMoveToListener(MoveToListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return moveToListeners.add(listener);
+    return moveToListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -70,7 +70,7 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addSkipListener(SkipListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return skipListeners.add(listener);
+    return skipListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -88,7 +88,7 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addStartListener(StartListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return startListeners.add(listener);
+    return startListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -100,7 +100,7 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addEndListener(EndListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return endListeners.add(listener);
+    return endListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -112,7 +112,7 @@ public abstract class AbstractObservableIterator<E>
   @Override
   public boolean addElementChangeListener(ElementChangeListener<E> listener) {
     Objects.requireNonNull(listener, "Listener may not be null");
-    return elementChangeListeners.add(listener);
+    return elementChangeListeners.addIfAbsent(listener);
   }
 
   @Override
@@ -128,7 +128,7 @@ public abstract class AbstractObservableIterator<E>
    *     The event that will be triggered after the start
    */
   protected void notifyStart(IteratorListener.IteratorEvent<E> event) {
-    startListeners.forEach(l -> l.onStart(event));
+    startListeners.fire(StartListener::onStart, event);
   }
 
   /**
@@ -138,7 +138,7 @@ public abstract class AbstractObservableIterator<E>
    *     The event that would be triggered if the iterator would not end
    */
   protected void notifyEnd(IteratorListener.IteratorEvent<E> event) {
-    endListeners.forEach(l -> l.onEnd(event));
+    endListeners.fire(EndListener::onEnd, event);
   }
 
   /**
@@ -152,7 +152,7 @@ public abstract class AbstractObservableIterator<E>
   protected void notifyPrevious(E oldElement, E newElement) {
     PreviousListener.PreviousEvent<E> event
         = new PreviousListener.PreviousEvent<>(this, oldElement, newElement);
-    previousListeners.forEach(l -> l.onPrevious(event));
+    previousListeners.fire(PreviousListener::onPrevious, event);
   }
 
   /**
@@ -166,7 +166,7 @@ public abstract class AbstractObservableIterator<E>
   protected void notifyNext(E oldElement, E newElement) {
     NextListener.NextEvent<E> event
         = new NextListener.NextEvent<>(this, oldElement, newElement);
-    nextListeners.forEach(l -> l.onNext(event));
+    nextListeners.fire(NextListener::onNext, event);
   }
 
   /**
@@ -180,7 +180,7 @@ public abstract class AbstractObservableIterator<E>
   protected void notifyMoveTo(E oldElement, E newElement) {
     MoveToListener.MoveToEvent<E> event
         = new MoveToListener.MoveToEvent<>(this, oldElement, newElement);
-    moveToListeners.forEach(l -> l.onMoveTo(event));
+    moveToListeners.fire(MoveToListener::onMoveTo, event);
   }
 
   /**
@@ -194,7 +194,7 @@ public abstract class AbstractObservableIterator<E>
   protected void notifySkip(E oldElement, E newElement) {
     SkipListener.SkipEvent<E> event
         = new SkipListener.SkipEvent<>(this, oldElement, newElement);
-    skipListeners.forEach(l -> l.onSkip(event));
+    skipListeners.fire(SkipListener::onSkip, event);
   }
 
   /**
@@ -205,7 +205,7 @@ public abstract class AbstractObservableIterator<E>
    */
   protected void notifyElementChange(IterationListener.IterationEvent<E> event) {
     if (!Objects.equals(event.getPrevious(), event.getCurrent())) {
-      elementChangeListeners.forEach(l -> l.onElementChange(event));
+      elementChangeListeners.fire(ElementChangeListener::onElementChange, event);
     }
   }
 }
@@ -0,0 +1,29 @@
+package org.vaadin.addons.md_stepper.shared;
+
+import com.vaadin.shared.communication.ClientRpc;
+
+import java.util.List;
+
+/**
+ * Calls from the server to the client-side step bar.
+ */
+public interface StepBarClientRpc extends ClientRpc {
+
+  /**
+   * Replace all items.
+   *
+   * @param items
+   *     The new items
+   */
+  void setItems(List<StepBarItem> items);
+
+  /**
+   * Replace the items at the given positions, the number of items stays the same.
+   *
+   * @param indices
+   *     The positions of the changed items
+   * @param items
+   *     The changed items in the same order as the positions
+   */
+  void updateItems(List<Integer> indices, List<StepBarItem> items);
+}
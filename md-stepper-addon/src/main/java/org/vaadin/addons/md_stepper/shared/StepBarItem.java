@@ -0,0 +1,85 @@
+package org.vaadin.addons.md_stepper.shared;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * State of a single step shown by a step bar.
+ * <p>
+ * The flags of an item contain the states of the step label, e.g. {@link #ACTIVE} or
+ * {@link #NEXTED}, combined as bit mask.
+ */
+public class StepBarItem implements Serializable {
+
+  public static final int ACTIVE = 1;
+  public static final int NEXTED = 1 << 1;
+  public static final int SKIPPED = 1 << 2;
+  public static final int EDITABLE = 1 << 3;
+  public static final int CLICKABLE = 1 << 4;
+  public static final int DISABLED = 1 << 5;
+  public static final int ERROR = 1 << 6;
+
+  public String caption;
+  public String description;
+  public String iconHtml;
+  public int flags;
+
+  /**
+   * Construct a new, empty item.
+   */
+  public StepBarItem() {
+    // Needed for serialization
+  }
+
+  /**
+   * Construct a new item.
+   *
+   * @param caption
+   *     The caption to show
+   * @param description
+   *     The description to show
+   * @param iconHtml
+   *     The html of the icon to show
+   * @param flags
+   *     The states of the step
+   */
+  public StepBarItem(String caption, String description, String iconHtml, int flags) {
+    this.caption = caption;
+    this.description = description;
+    this.iconHtml = iconHtml;
+    this.flags = flags;
+  }
+
+  /**
+   * Check if the given flag is set.
+   *
+   * @param flag
+   *     The flag to check
+   *
+   * @return <code>true</code> if the flag is set, <code>false</code> else
+   */
+  public boolean hasFlag(int flag) {
+    return (flags & flag) != 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    StepBarItem that = (StepBarItem) o;
+    return flags == that.flags
+           && Objects.equals(caption, that.caption)
+           && Objects.equals(description, that.description)
+           && Objects.equals(iconHtml, that.iconHtml);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(caption, description, iconHtml, flags);
+  }
+}
@@ -0,0 +1,17 @@
+package org.vaadin.addons.md_stepper.shared;
+
+import com.vaadin.shared.communication.ServerRpc;
+
+/**
+ * Calls from the client-side step bar to the server.
+ */
+public interface StepBarServerRpc extends ServerRpc {
+
+  /**
+   * Called if the item at the given position has been clicked.
+   *
+   * @param index
+   *     The position of the clicked item
+   */
+  void itemClicked(int index);
+}
@@ -0,0 +1,12 @@
+package org.vaadin.addons.md_stepper.shared;
+
+import com.vaadin.shared.AbstractComponentState;
+
+/**
+ * Shared state of a step bar.
+ * <p>
+ * The items are not part of the state, they are sent by {@link StepBarClientRpc} to be able to
+ * send only the changed ones.
+ */
+public class StepBarState extends AbstractComponentState {
+}
@@ -0,0 +1,275 @@
+package org.vaadin.addons.md_stepper.state;
+
+import org.vaadin.addons.md_stepper.state.StateTracker.State;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Tracker to track the state of elements by their position in a list.
+ * <p>
+ * The states are stored as visited bits and the number of visited elements is kept up to date,
+ * so checking whether all elements have been visited does not depend on the number of elements.
+ * Disabled elements are stored as bits as well, so the next open (unvisited and enabled) element
+ * is found without looking at the elements in between. The tracker has to be informed about
+ * insertions, removals and changes of the disabled state to keep the positions in sync with the
+ * tracked list.
+ *
+ * @see State
+ */
+public class IndexedStateTracker implements Serializable {
+
+  private final BitSet visited;
+  private final BitSet disabled;
+  // Elements that are visited or disabled
+  private final BitSet closed;
+
+  private int size;
+  private int visitedCount;
+
+  /**
+   * Construct a new, empty tracker.
+   */
+  public IndexedStateTracker() {
+    this.visited = new BitSet();
+    this.disabled = new BitSet();
+    this.closed = new BitSet();
+  }
+
+  /**
+   * Get the number of tracked elements.
+   *
+   * @return The number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Remove all elements and states from the tracker.
+   */
+  public void clear() {
+    visited.clear();
+    disabled.clear();
+    closed.clear();
+    size = 0;
+    visitedCount = 0;
+  }
+
+  /**
+   * Insert an element with the given state at the given position. The positions of all following
+   * elements are shifted by one.
+   *
+   * @param index
+   *     The position of the inserted element
+   * @param state
+   *     The state of the inserted element
+   */
+  public void insert(int index, State state) {
+    insert(index, 1, state);
+  }
+
+  /**
+   * Insert the given number of elements with the given state at the given position. The positions
+   * of all following elements are shifted by the number of inserted elements.
+   *
+   * @param index
+   *     The position of the first inserted element
+   * @param count
+   *     The number of inserted elements
+   * @param state
+   *     The state of the inserted elements
+   */
+  public void insert(int index, int count, State state) {
+    Objects.requireNonNull(state, "State may not be null");
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (count < 0) {
+      throw new IllegalArgumentException("Count may not be negative");
+    }
+
+    shift(index, index + count);
+    size += count;
+    if (state == State.VISITED) {
+      visited.set(index, index + count);
+      closed.set(index, index + count);
+      visitedCount += count;
+    }
+  }
+
+  /**
+   * Remove the element at the given position. The positions of all following elements are
+   * shifted by one.
+   *
+   * @param index
+   *     The position of the removed element
+   */
+  public void remove(int index) {
+    checkIndex(index);
+
+    if (visited.get(index)) {
+      visitedCount--;
+    }
+    shift(index + 1, index);
+    size--;
+  }
+
+  private void shift(int fromIndex, int toIndex) {
+    shift(visited, fromIndex, toIndex);
+    shift(disabled, fromIndex, toIndex);
+    shift(closed, fromIndex, toIndex);
+  }
+
+  private static void shift(BitSet bits, int fromIndex, int toIndex) {
+    int length = bits.length();
+    if (Math.min(fromIndex, toIndex) >= length) {
+      return;
+    }
+
+    BitSet tail = bits.get(fromIndex, Math.max(fromIndex, length));
+    bits.clear(Math.min(fromIndex, toIndex), length);
+    for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+      bits.set(toIndex + i);
+    }
+  }
+
+  /**
+   * Set the state of the element at the given position.
+   *
+   * @param index
+   *     The position of the element
+   * @param state
+   *     The state to set
+   */
+  public void setState(int index, State state) {
+    Objects.requireNonNull(state, "State may not be null");
+    checkIndex(index);
+
+    boolean value = state == State.VISITED;
+    if (visited.get(index) != value) {
+      visited.set(index, value);
+      closed.set(index, value || disabled.get(index));
+      visitedCount += value ? 1 : -1;
+    }
+  }
+
+  /**
+   * Set the disabled state of the element at the given position.
+   *
+   * @param index
+   *     The position of the element
+   * @param value
+   *     <code>true</code> if the element is disabled, <code>false</code> else
+   */
+  public void setDisabled(int index, boolean value) {
+    checkIndex(index);
+
+    disabled.set(index, value);
+    closed.set(index, value || visited.get(index));
+  }
+
+  /**
+   * Check whether the element at the given position is disabled.
+   *
+   * @param index
+   *     The position of the element
+   *
+   * @return <code>true</code> if the element is disabled, <code>false</code> else
+   */
+  public boolean isDisabled(int index) {
+    checkIndex(index);
+    return disabled.get(index);
+  }
+
+  /**
+   * Get the state of the element at the given position.
+   *
+   * @param index
+   *     The position of the element
+   *
+   * @return The state of the element
+   */
+  public State getState(int index) {
+    return isVisited(index) ? State.VISITED : State.UNVISITED;
+  }
+
+  /**
+   * Check whether the element at the given position has been visited.
+   *
+   * @param index
+   *     The position of the element
+   *
+   * @return <code>true</code> if the element has been visited, <code>false</code> else
+   */
+  public boolean isVisited(int index) {
+    checkIndex(index);
+    return visited.get(index);
+  }
+
+  /**
+   * Get the position of the first unvisited element starting at the given position.
+   *
+   * @param fromIndex
+   *     The position to start searching from (inclusive)
+   *
+   * @return The position of the element or <code>-1</code> if no such element exists
+   */
+  public int nextUnvisited(int fromIndex) {
+    int index = visited.nextClearBit(Math.max(fromIndex, 0));
+    return index < size ? index : -1;
+  }
+
+  /**
+   * Get the position of the first unvisited and enabled element starting at the given position.
+   *
+   * @param fromIndex
+   *     The position to start searching from (inclusive)
+   *
+   * @return The position of the element or <code>-1</code> if no such element exists
+   */
+  public int nextOpen(int fromIndex) {
+    int index = closed.nextClearBit(Math.max(fromIndex, 0));
+    return index < size ? index : -1;
+  }
+
+  /**
+   * Get the position of the last enabled element up to the given position.
+   *
+   * @param fromIndex
+   *     The position to start searching backwards from (inclusive)
+   *
+   * @return The position of the element or <code>-1</code> if no such element exists
+   */
+  public int previousEnabled(int fromIndex) {
+    if (fromIndex < 0) {
+      return -1;
+    }
+    return disabled.previousClearBit(Math.min(fromIndex, size - 1));
+  }
+
+  /**
+   * Get the number of elements that have not been visited yet.
+   *
+   * @return The number of unvisited elements
+   */
+  public int getUnvisitedCount() {
+    return size - visitedCount;
+  }
+
+  /**
+   * Check whether all elements have been visited.
+   *
+   * @return <code>true</code> if all elements have been visited, <code>false</code> else
+   */
+  public boolean isComplete() {
+    return visitedCount == size;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -4,7 +4,6 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Tracker to track the state of elements.
@@ -60,7 +59,8 @@ public class StateTracker<E extends Serializable> implements Serializable {
    */
   public State getState(E element) {
     Objects.requireNonNull(element, "Element may not be null");
-    return Optional.ofNullable(states.get(element)).orElse(State.UNVISITED);
+    State state = states.get(element);
+    return state != null ? state : State.UNVISITED;
   }
 
   /**
@@ -0,0 +1,50 @@
+package org.vaadin.addons.md_stepper.util;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared scheduler that runs short tasks after a delay, e.g. to complete a future with a timeout.
+ * <p>
+ * The tasks run on a single daemon thread that terminates when there are no scheduled tasks, so
+ * they must not block. Waiting for a delay does not occupy a thread of an executor that runs the
+ * actual work.
+ */
+public final class DelayScheduler {
+
+  private static final long KEEP_ALIVE_SECONDS = 10;
+  private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+  private DelayScheduler() {
+    // Prevent instantiation
+  }
+
+  private static ScheduledThreadPoolExecutor createScheduler() {
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "md-stepper-delay-scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    scheduler.allowCoreThreadTimeOut(true);
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Run the given task once after the given delay.
+   *
+   * @param task
+   *     The task to run, which must not block
+   * @param delay
+   *     The delay
+   * @param unit
+   *     The unit of the delay
+   *
+   * @return The future to cancel the task
+   */
+  public static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    return SCHEDULER.schedule(task, delay, unit);
+  }
+}
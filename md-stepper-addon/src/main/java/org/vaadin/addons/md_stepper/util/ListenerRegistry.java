@@ -0,0 +1,151 @@
+package org.vaadin.addons.md_stepper.util;
+
+import com.vaadin.shared.Registration;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of listeners that notifies them in the order they have been added.
+ * <p>
+ * The listeners are kept in an array that is copied on every change. Notifying the listeners
+ * iterates over the array without any allocation and listeners may add or remove listeners while
+ * being notified, which takes effect for the next notification.
+ *
+ * @param <L>
+ *     The type of the listeners
+ */
+public final class ListenerRegistry<L> implements Serializable {
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private Object[] listeners;
+
+  /**
+   * Create a new, empty registry.
+   */
+  public ListenerRegistry() {
+    this.listeners = EMPTY;
+  }
+
+  /**
+   * Add the given listener if it has not been added yet.
+   *
+   * @param listener
+   *     The listener to add
+   *
+   * @return The registration to remove the listener
+   */
+  public Registration add(L listener) {
+    addIfAbsent(listener);
+    return () -> remove(listener);
+  }
+
+  /**
+   * Add the given listener if it has not been added yet.
+   *
+   * @param listener
+   *     The listener to add
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> if it was
+   * already added before
+   */
+  public boolean addIfAbsent(L listener) {
+    Objects.requireNonNull(listener, "Listener may not be null");
+
+    if (indexOf(listener) >= 0) {
+      return false;
+    }
+
+    Object[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+    newListeners[listeners.length] = listener;
+    listeners = newListeners;
+    return true;
+  }
+
+  /**
+   * Remove the given listener.
+   *
+   * @param listener
+   *     The listener to remove
+   *
+   * @return <code>true</code> if the listener has been removed, <code>false</code> if it was not
+   * added
+   */
+  public boolean remove(L listener) {
+    int index = indexOf(listener);
+    if (index < 0) {
+      return false;
+    }
+
+    if (listeners.length == 1) {
+      listeners = EMPTY;
+    } else {
+      Object[] newListeners = new Object[listeners.length - 1];
+      System.arraycopy(listeners, 0, newListeners, 0, index);
+      System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+      listeners = newListeners;
+    }
+    return true;
+  }
+
+  /**
+   * Check if the given listener has been added.
+   *
+   * @param listener
+   *     The listener to check
+   *
+   * @return <code>true</code> if the listener has been added, <code>false</code> else
+   */
+  public boolean contains(L listener) {
+    return indexOf(listener) >= 0;
+  }
+
+  /**
+   * Check if there are no listeners.
+   *
+   * @return <code>true</code> if there are no listeners, <code>false</code> else
+   */
+  public boolean isEmpty() {
+    return listeners.length == 0;
+  }
+
+  /**
+   * Get the number of listeners.
+   *
+   * @return The number of listeners
+   */
+  public int size() {
+    return listeners.length;
+  }
+
+  /**
+   * Notify all listeners about the given event.
+   *
+   * @param dispatcher
+   *     The method that notifies a single listener, e.g. a method reference to the listener method
+   * @param event
+   *     The event to pass to the listeners
+   * @param <E>
+   *     The type of the event
+   */
+  @SuppressWarnings("unchecked")
+  public <E> void fire(BiConsumer<? super L, ? super E> dispatcher, E event) {
+    Object[] snapshot = listeners;
+    for (int i = 0; i < snapshot.length; i++) {
+      dispatcher.accept((L) snapshot[i], event);
+    }
+  }
+
+  private int indexOf(Object listener) {
+    Object[] snapshot = listeners;
+    for (int i = 0; i < snapshot.length; i++) {
+      if (snapshot[i].equals(listener)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
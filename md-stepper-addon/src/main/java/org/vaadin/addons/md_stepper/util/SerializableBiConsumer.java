@@ -0,0 +1,16 @@
+package org.vaadin.addons.md_stepper.util;
+
+import java.io.Serializable;
+import java.util.function.BiConsumer;
+
+/**
+ * Serializable bi-consumer implementation.
+ *
+ * @param <T>
+ *     the type of the first argument to the operation
+ * @param <U>
+ *     the type of the second argument to the operation
+ */
+@FunctionalInterface
+public interface SerializableBiConsumer<T, U> extends BiConsumer<T, U>, Serializable {
+}
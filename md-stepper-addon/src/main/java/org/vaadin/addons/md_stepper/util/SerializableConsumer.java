@@ -0,0 +1,14 @@
+package org.vaadin.addons.md_stepper.util;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * Serializable consumer implementation.
+ *
+ * @param <T>
+ *     the type of the input to the operation
+ */
+@FunctionalInterface
+public interface SerializableConsumer<T> extends Consumer<T>, Serializable {
+}
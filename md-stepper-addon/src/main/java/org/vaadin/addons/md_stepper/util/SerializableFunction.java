@@ -0,0 +1,16 @@
+package org.vaadin.addons.md_stepper.util;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * Serializable function implementation.
+ *
+ * @param <T>
+ *     the type of the input to the function
+ * @param <R>
+ *     the type of the result of the function
+ */
+@FunctionalInterface
+public interface SerializableFunction<T, R> extends Function<T, R>, Serializable {
+}
@@ -35,4 +35,43 @@ public final class StringUtils {
     return true;
   }
 
+  /**
+   * Escape the given string so it can be used as text inside html.
+   *
+   * @param str
+   *     The string to escape
+   *
+   * @return The escaped string or an empty string if the given string is <code>null</code>
+   */
+  public static String escapeHtml(String str) {
+    if (str == null) {
+      return "";
+    }
+
+    StringBuilder escaped = new StringBuilder(str.length());
+    for (int i = 0; i < str.length(); i++) {
+      char c = str.charAt(i);
+      switch (c) {
+        case '&':
+          escaped.append("&amp;");
+          break;
+        case '<':
+          escaped.append("&lt;");
+          break;
+        case '>':
+          escaped.append("&gt;");
+          break;
+        case '"':
+          escaped.append("&quot;");
+          break;
+        case '\'':
+          escaped.append("&#39;");
+          break;
+        default:
+          escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
 }
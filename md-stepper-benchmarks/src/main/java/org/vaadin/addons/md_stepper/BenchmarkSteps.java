@@ -0,0 +1,50 @@
+package org.vaadin.addons.md_stepper;
+
+import com.vaadin.ui.Label;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper methods to set up steps for the benchmarks.
+ */
+final class BenchmarkSteps {
+
+  private BenchmarkSteps() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Create the given number of editable, optional steps with a caption, description and content.
+   *
+   * @param count
+   *     The number of steps to create
+   *
+   * @return The steps
+   */
+  static List<Step> create(int count) {
+    List<Step> steps = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Step step = new Step("Step " + (i + 1), "Description " + (i + 1), new Label("Content"));
+      step.setEditable(true);
+      step.setOptional(true);
+      steps.add(step);
+    }
+    return steps;
+  }
+
+  /**
+   * Complete all steps in front of the given index and move the stepper to the step at the index.
+   *
+   * @param stepper
+   *     The stepper to advance
+   * @param index
+   *     The index of the step that should be active afterwards
+   */
+  static void advance(AbstractStepper stepper, int index) {
+    stepper.start();
+    for (int i = 0; i < index; i++) {
+      stepper.next();
+    }
+  }
+}
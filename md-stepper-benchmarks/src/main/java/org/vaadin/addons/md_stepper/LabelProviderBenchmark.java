@@ -0,0 +1,59 @@
+package org.vaadin.addons.md_stepper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for updating the labels of a {@link LabelProvider}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelProviderBenchmark {
+
+  @Param({"4", "50", "500", "5000"})
+  private int stepCount;
+
+  @Param({"true", "false"})
+  private boolean linear;
+
+  private LabelProvider labelProvider;
+  private Step current;
+
+  @Setup
+  public void setUp() {
+    List<Step> steps = BenchmarkSteps.create(stepCount);
+    StepIterator stepIterator = new StepIterator(steps, linear);
+    labelProvider = new LabelProvider(stepIterator, StepLabel::new);
+
+    current = steps.get(0);
+    stepIterator.moveTo(current);
+  }
+
+  @Benchmark
+  public LabelProvider setActive() {
+    labelProvider.setActive(current);
+    return labelProvider;
+  }
+
+  @Benchmark
+  public LabelProvider refresh() {
+    labelProvider.refresh();
+    return labelProvider;
+  }
+}
@@ -0,0 +1,92 @@
+package org.vaadin.addons.md_stepper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.vaadin.addons.md_stepper.event.StepCompleteListener.StepCompleteEvent;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the navigation of a {@link StepIterator}.
+ * <p>
+ * The iterator is positioned in the middle of the steps with all preceding steps completed. Every
+ * benchmark method returns the iterator to this position, so each invocation measures the same
+ * transitions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepIteratorBenchmark {
+
+  @Param({"4", "50", "500", "5000"})
+  private int stepCount;
+
+  @Param({"true", "false"})
+  private boolean linear;
+
+  private StepIterator stepIterator;
+  private List<Step> steps;
+  private Step middle;
+  private Step beforeMiddle;
+
+  @Setup
+  public void setUp() {
+    Stepper source = new HorizontalStepper();
+
+    steps = BenchmarkSteps.create(stepCount);
+    stepIterator = new StepIterator(steps, linear);
+
+    int middleIndex = stepCount / 2;
+    for (int i = 0; i < middleIndex; i++) {
+      stepIterator.onStepComplete(new StepCompleteEvent(source, steps.get(i)));
+    }
+
+    middle = steps.get(middleIndex);
+    beforeMiddle = steps.get(middleIndex - 1);
+    stepIterator.moveTo(middle);
+  }
+
+  @Benchmark
+  public Step nextAndPrevious() {
+    stepIterator.next();
+    return stepIterator.previous();
+  }
+
+  @Benchmark
+  public Step skipAndMoveTo() {
+    stepIterator.skip();
+    stepIterator.moveTo(middle);
+    return stepIterator.getCurrent();
+  }
+
+  @Benchmark
+  public Step moveToAndBack() {
+    stepIterator.moveTo(beforeMiddle);
+    stepIterator.moveTo(middle);
+    return stepIterator.getCurrent();
+  }
+
+  @Benchmark
+  public void navigationQueries(Blackhole blackhole) {
+    blackhole.consume(stepIterator.hasNext());
+    blackhole.consume(stepIterator.hasPrevious());
+    blackhole.consume(stepIterator.hasSkip());
+    for (Step step : steps) {
+      blackhole.consume(stepIterator.hasMoveTo(step));
+    }
+  }
+}
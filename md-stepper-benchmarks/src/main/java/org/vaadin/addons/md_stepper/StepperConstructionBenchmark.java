@@ -0,0 +1,60 @@
+package org.vaadin.addons.md_stepper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the construction of the stepper implementations.
+ * <p>
+ * New steps are created before every invocation, as steps keep listeners of the iterators they
+ * have been added to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepperConstructionBenchmark {
+
+  @Param({"4", "50", "500", "5000"})
+  private int stepCount;
+
+  @Param({"true", "false"})
+  private boolean linear;
+
+  private List<Step> steps;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    steps = BenchmarkSteps.create(stepCount);
+  }
+
+  @Benchmark
+  public Stepper horizontalStepper() {
+    return new HorizontalStepper(steps, linear);
+  }
+
+  @Benchmark
+  public Stepper verticalStepper() {
+    return new VerticalStepper(steps, linear);
+  }
+
+  @Benchmark
+  public Stepper listStepper() {
+    return new ListStepper(steps, linear);
+  }
+}
@@ -0,0 +1,95 @@
+package org.vaadin.addons.md_stepper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link AbstractStepper#next()} on a {@link HorizontalStepper}.
+ * <p>
+ * All steps reset the following steps on resubmit, so every <code>next()</code> of a linear
+ * stepper runs through the reset check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepperNextBenchmark {
+
+  /**
+   * Move forward from the middle step and back again.
+   */
+  @Benchmark
+  public Step nextAndBack(NextState state) {
+    state.stepper.next();
+    state.stepper.back();
+    return state.stepper.getCurrent();
+  }
+
+  /**
+   * Complete the middle step and the step behind it, then jump back to the middle step. The next
+   * invocation resubmits the middle step, which resets the completed step behind it.
+   */
+  @Benchmark
+  public Step nextWithReset(ResetState state) {
+    state.stepper.next();
+    state.stepper.next();
+    state.stepper.getStepIterator().moveTo(state.middle);
+    return state.stepper.getCurrent();
+  }
+
+  private static HorizontalStepper createStepper(int stepCount, boolean linear, int index) {
+    List<Step> steps = BenchmarkSteps.create(stepCount);
+    steps.forEach(step -> step.setResetOnResubmit(true));
+
+    HorizontalStepper stepper = new HorizontalStepper(steps, linear);
+    BenchmarkSteps.advance(stepper, index);
+    return stepper;
+  }
+
+  @State(Scope.Thread)
+  public static class NextState {
+
+    @Param({"4", "50", "500", "5000"})
+    private int stepCount;
+
+    @Param({"true", "false"})
+    private boolean linear;
+
+    private HorizontalStepper stepper;
+
+    @Setup
+    public void setUp() {
+      stepper = createStepper(stepCount, linear, stepCount / 2);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ResetState {
+
+    @Param({"4", "50", "500", "5000"})
+    private int stepCount;
+
+    private HorizontalStepper stepper;
+    private Step middle;
+
+    @Setup
+    public void setUp() {
+      int middleIndex = (stepCount - 1) / 2;
+      stepper = createStepper(stepCount, true, middleIndex);
+      middle = stepper.getSteps().get(middleIndex);
+    }
+  }
+}